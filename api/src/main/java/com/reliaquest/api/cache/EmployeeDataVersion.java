@@ -0,0 +1,70 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.model.EmployeeSearchCriteria;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Monotonically increasing version of the employee data, bumped once every create or delete has committed.
+ * <p>
+ * ETags combine the version with a random per-process epoch, because the version starts over on every restart
+ * while the database may not, and with a SHA-256 digest of the search criteria, so different queries never share a
+ * tag. A 32-bit hash code would let two searches that collide answer each other's If-None-Match.
+ * A response tagged with the version read before its query can only be newer than its tag claims, never older.
+ * That holds because the version is bumped after every cache and index has dropped what the write invalidated:
+ * those listeners run at {@link #INVALIDATION_ORDER}, before this one.
+ * </p>
+ */
+@Component
+public class EmployeeDataVersion {
+
+    /**
+     * Order of every change listener that invalidates state searches read from, so they all run before the bump.
+     */
+    public static final int INVALIDATION_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    public String etag(EmployeeSearchCriteria criteria) {
+        return "\"" + epoch + "-" + version.get() + "-" + digest(criteria) + "\"";
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /*
+     * Each field is written with its length, so no two different criteria produce the same input.
+     */
+    private static String digest(EmployeeSearchCriteria criteria) {
+        Object[] fields = {criteria.getId(), criteria.getName(), criteria.getAfterId(), criteria.getLimit()};
+        StringBuilder key = new StringBuilder();
+        for (Object field : fields) {
+            String value = field == null ? null : field.toString();
+            key.append(value == null ? -1 : value.length()).append(':').append(value == null ? "" : value);
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.model.EmployeeSearchCriteria;
+import com.reliaquest.api.model.entity.Employee;
+import com.reliaquest.api.util.EmployeeUtility;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Read-through cache in front of {@link com.reliaquest.api.service.impl.EmployeeDatabaseService}.
+ * <p>
+ * Search results are keyed by {@link EmployeeSearchCriteria}; the highest salary and the top ten names each have
+ * a single slot. Entries are bounded by the total number of cached rows and expire after a TTL. Creates and
+ * deletes only drop the entries whose result the changed employee can affect, once the write has committed.
+ * </p>
+ * <p>
+ * A load that overlaps a write is returned to its caller but not cached, so a result read before a commit can
+ * never outlive the invalidation for that commit.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EmployeeQueryCache {
+
+    private enum AggregateKey {
+        HIGHEST_SALARY,
+        TOP_TEN_NAMES
+    }
+
+    private final Cache<Object, Object> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Bumped on every write; guarded by this.
+    private long generation;
+
+    public EmployeeQueryCache(
+            @Value("${employee.cache.max-cached-rows:100000}") long maxCachedRows,
+            @Value("${employee.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxCachedRows)
+                .weigher((Object key, Object value) -> value instanceof List<?> rows ? Math.max(1, rows.size()) : 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public List<Employee> search(
+            EmployeeSearchCriteria criteria, Function<EmployeeSearchCriteria, List<Employee>> loader) {
+        // Criteria are mutable, so cache against a copy.
+        EmployeeSearchCriteria key = criteria.toBuilder().build();
+        return readThrough(key, () -> List.copyOf(loader.apply(criteria)));
+    }
+
+    public Integer highestSalary(Supplier<Integer> loader) {
+        return readThrough(AggregateKey.HIGHEST_SALARY, loader);
+    }
+
+    public List<String> topTenNames(Supplier<List<String>> loader) {
+        return readThrough(AggregateKey.TOP_TEN_NAMES, () -> List.copyOf(loader.get()));
+    }
+
+    @Order(EmployeeDataVersion.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        int removed = 0;
+        synchronized (this) {
+            generation++;
+            var entries = cache.asMap().entrySet().iterator();
+            while (entries.hasNext()) {
+                var entry = entries.next();
+                if (isAffected(entry.getKey(), entry.getValue(), event)) {
+                    entries.remove();
+                    removed++;
+                }
+            }
+        }
+        invalidations.addAndGet(removed);
+        log.debug("Invalidated {} cached results after {} of {}", removed, event.type(), event.employee().getId());
+    }
+
+    public Map<String, Number> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Number> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("invalidations", invalidations.get());
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V readThrough(Object key, Supplier<V> loader) {
+        V cached = (V) cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+        V value = loader.get();
+        if (value != null) {
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    cache.put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    private static boolean isAffected(Object key, Object value, EmployeeChangedEvent event) {
+        Employee employee = event.employee();
+        boolean created = event.type() == EmployeeChangedEvent.Type.CREATED;
+
+        if (key instanceof EmployeeSearchCriteria criteria) {
+            return matches(criteria, employee);
+        }
+        if (key == AggregateKey.HIGHEST_SALARY) {
+            Integer salary = employee.getSalary();
+            int highest = (Integer) value;
+            return salary != null && (created ? salary > highest : salary >= highest);
+        }
+        if (key == AggregateKey.TOP_TEN_NAMES) {
+            // Only names are cached, so any create may displace one of them; a delete only matters if it was listed.
+            return created || ((List<?>) value).contains(employee.getName());
+        }
+        return true;
+    }
+
+    /*
+     * Mirrors the predicates built by EmployeeDatabaseService.searchEmployee, including ignoring ids that are not
+     * valid UUIDs.
+     */
+    private static boolean matches(EmployeeSearchCriteria criteria, Employee employee) {
+        if (criteria.getId() != null && !criteria.getId().isBlank()) {
+            UUID uuid = EmployeeUtility.covertStringToUuid(criteria.getId());
+            if (uuid != null && !uuid.equals(employee.getId())) {
+                return false;
+            }
+        }
+
+        if (criteria.getName() != null && !criteria.getName().isBlank()) {
+            return employee.getName() != null
+                    && employee.getName()
+                            .toLowerCase(Locale.ROOT)
+                            .contains(criteria.getName().toLowerCase(Locale.ROOT));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Local Caffeine regions for Hibernate's second-level and query caches.
+ * <p>
+ * Every region Hibernate uses is created here with its size and TTL from {@code employee.l2-cache.*}, and any
+ * other region name fails at startup instead of silently creating an unbounded cache. Hibernate keeps the regions
+ * consistent with its own writes: updated and deleted entities are evicted, and a query result is discarded once
+ * any table it read from has changed.
+ * </p>
+ */
+@Configuration
+public class HibernateCacheConfiguration {
+
+    public static final String EMPLOYEE_REGION = "employee";
+    public static final String EMPLOYEE_QUERY_REGION = "employee-queries";
+
+    // Hibernate's own regions: results of cacheable queries without a region, and last-change times per table.
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean
+    public CacheManager hibernateCacheManager(
+            @Value("${employee.l2-cache.entity.max-size:100000}") long entityMaxSize,
+            @Value("${employee.l2-cache.entity.ttl:10m}") Duration entityTtl,
+            @Value("${employee.l2-cache.query.max-size:1000}") long queryMaxSize,
+            @Value("${employee.l2-cache.query.ttl:10m}") Duration queryTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        create(cacheManager, EMPLOYEE_REGION, region(entityMaxSize, entityTtl));
+        create(cacheManager, EMPLOYEE_QUERY_REGION, region(queryMaxSize, queryTtl));
+        create(cacheManager, DEFAULT_QUERY_REGION, region(queryMaxSize, queryTtl));
+        // Timestamps must outlive every cached query result, so this region is never evicted.
+        create(cacheManager, UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+
+    /*
+     * The provider shares a cache manager per class loader, so a region may survive from an earlier application
+     * context in the same JVM (tests, benchmarks); recreate it with the current settings.
+     */
+    private static void create(
+            CacheManager cacheManager, String name, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);
+        }
+        // Hibernate caches its own immutable entries, so copying them on every access would be wasted work.
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Lets concurrent callers asking for the same key share one in-flight load ("singleflight").
+ * <p>
+ * The first caller for a key runs the loader; callers arriving while it runs wait for and receive the same result
+ * or exception. Nothing is kept once the load finishes, so the next caller starts a fresh load. A committed write
+ * detaches every in-flight load, so callers arriving after the write never join a read that started before it.
+ * </p>
+ * <p>
+ * {@code employee.coalescer.calls} counts loads by {@code result} ({@code executed} or {@code coalesced}), and
+ * {@code employee.coalescer.ratio} is the share of calls that were coalesced.
+ * </p>
+ */
+@Component
+public class RequestCoalescer {
+
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("employee.coalescer.calls")
+                .tag("result", "executed")
+                .description("Reads that ran their own database query")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("employee.coalescer.calls")
+                .tag("result", "coalesced")
+                .description("Reads that shared the result of an identical in-flight query")
+                .register(meterRegistry);
+        Gauge.builder("employee.coalescer.ratio", this, RequestCoalescer::coalescingRatio)
+                .description("Share of reads served by another caller's in-flight query")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> loader) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(existing);
+        }
+
+        executed.increment();
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+        // Detach before completing so that a caller arriving now starts a new load instead of reusing this one.
+        inFlight.remove(key, call);
+        call.complete(value);
+        return value;
+    }
+
+    @Order(EmployeeDataVersion.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        inFlight.clear();
+    }
+
+    public double coalescingRatio() {
+        double total = executed.count() + coalesced.count();
+        return total == 0 ? 0 : coalesced.count() / total;
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that paces calls to the mock employee server and learns its limit from 429 responses.
+ * <p>
+ * The mock server accepts a fixed number of requests and then locks the caller out until a back-off period has
+ * elapsed since the last accepted request. The bucket mirrors that model: it holds {@code capacity} tokens and
+ * refills them once {@code refillInterval} has passed since the last accepted request. Whenever a request is
+ * throttled the number of requests accepted in the current window becomes the new capacity, and the cool-down is
+ * taken from {@code Retry-After} when present or doubled on every consecutive throttle otherwise.
+ * </p>
+ * <p>
+ * Permits are stamped with an epoch that changes on every throttle, so in-flight requests rejected by the same
+ * lockout are only counted once.
+ * </p>
+ */
+public class AdaptiveTokenBucket {
+
+    private final LongSupplier nanoClock;
+    private final long maxCooldownNanos;
+
+    private int capacity;
+    private int ceiling = Integer.MAX_VALUE;
+    private int tokens;
+    private int acceptedInWindow;
+    private long refillIntervalNanos;
+    private long cooldownNanos;
+    private long lastAcceptedAt;
+    private long blockedUntil;
+    private long epoch;
+
+    public AdaptiveTokenBucket(int initialCapacity, Duration refillInterval, Duration maxCooldown) {
+        this(initialCapacity, refillInterval, maxCooldown, System::nanoTime);
+    }
+
+    AdaptiveTokenBucket(int initialCapacity, Duration refillInterval, Duration maxCooldown, LongSupplier nanoClock) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be at least 1");
+        }
+        this.nanoClock = nanoClock;
+        this.capacity = initialCapacity;
+        this.tokens = initialCapacity;
+        this.refillIntervalNanos = refillInterval.toNanos();
+        this.cooldownNanos = refillIntervalNanos;
+        this.maxCooldownNanos = Math.max(maxCooldown.toNanos(), refillIntervalNanos);
+        long now = nanoClock.getAsLong();
+        this.lastAcceptedAt = now;
+        this.blockedUntil = now;
+    }
+
+    /**
+     * Waits for a permit for at most {@code maxWait}.
+     *
+     * @return the permit epoch to report back through {@link #onAccepted(long)} or {@link #onThrottled(long,
+     *         Duration)}, or {@code -1} if no permit became available in time
+     */
+    public long acquire(Duration maxWait) throws InterruptedException {
+        long deadline = nanoClock.getAsLong() + maxWait.toNanos();
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long waitNanos;
+            synchronized (this) {
+                refill(now);
+                if (tokens > 0 && now >= blockedUntil) {
+                    tokens--;
+                    return epoch;
+                }
+                waitNanos = nanosUntilAvailable(now);
+            }
+            if (now + waitNanos > deadline) {
+                return -1;
+            }
+            // Spread waiters out a little so they do not all hit the upstream the moment a lockout ends.
+            long jitter = ThreadLocalRandom.current().nextLong(TimeUnit.MILLISECONDS.toNanos(50) + 1);
+            TimeUnit.NANOSECONDS.sleep(Math.min(waitNanos + jitter, Math.max(deadline - now, 1)));
+        }
+    }
+
+    public synchronized void onAccepted(long permitEpoch) {
+        lastAcceptedAt = nanoClock.getAsLong();
+        if (permitEpoch == epoch) {
+            acceptedInWindow++;
+            cooldownNanos = refillIntervalNanos;
+        }
+    }
+
+    /**
+     * Records a 429 for a permit. Only the first throttle of an epoch adjusts the learned limit.
+     *
+     * @param retryAfter the upstream {@code Retry-After} value, or {@code null} if the response had none
+     */
+    public synchronized void onThrottled(long permitEpoch, Duration retryAfter) {
+        if (permitEpoch != epoch) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        if (acceptedInWindow > 0) {
+            capacity = acceptedInWindow;
+            ceiling = acceptedInWindow;
+        }
+        if (retryAfter != null) {
+            cooldownNanos = Math.min(retryAfter.toNanos(), maxCooldownNanos);
+            blockedUntil = now + cooldownNanos;
+        } else {
+            // Without a hint the lockout runs from the last accepted request; if the previous cool-down was not
+            // long enough, double it.
+            if (blockedUntil > lastAcceptedAt && now >= blockedUntil) {
+                cooldownNanos = Math.min(cooldownNanos * 2, maxCooldownNanos);
+            }
+            blockedUntil = Math.max(now, lastAcceptedAt + cooldownNanos);
+        }
+        refillIntervalNanos = Math.max(refillIntervalNanos, cooldownNanos);
+        tokens = 0;
+        acceptedInWindow = 0;
+        epoch++;
+    }
+
+    /**
+     * Returns how long a caller would currently have to wait for a permit.
+     */
+    public synchronized Duration timeUntilAvailable() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        return Duration.ofNanos(nanosUntilAvailable(now));
+    }
+
+    public synchronized int capacity() {
+        return capacity;
+    }
+
+    public synchronized Duration refillInterval() {
+        return Duration.ofNanos(refillIntervalNanos);
+    }
+
+    private void refill(long now) {
+        if (tokens >= capacity || now < blockedUntil || now - lastAcceptedAt < refillIntervalNanos) {
+            return;
+        }
+        // A full window went through without a throttle; probe one more request unless the limit is known.
+        if (tokens == 0 && acceptedInWindow >= capacity && capacity < ceiling) {
+            capacity++;
+        }
+        tokens = capacity;
+        acceptedInWindow = 0;
+    }
+
+    private long nanosUntilAvailable(long now) {
+        long availableAt = Math.max(blockedUntil, tokens > 0 ? now : lastAcceptedAt + refillIntervalNanos);
+        return Math.max(0, availableAt - now);
+    }
+}
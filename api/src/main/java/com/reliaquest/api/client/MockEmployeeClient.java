@@ -0,0 +1,305 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.upstream.UpstreamCreateEmployeeInput;
+import com.reliaquest.api.model.upstream.UpstreamDeleteEmployeeInput;
+import com.reliaquest.api.model.upstream.UpstreamEmployee;
+import com.reliaquest.api.model.upstream.UpstreamResponse;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Client for the mock employee server on {@code /api/v1/employee}.
+ * <p>
+ * Every request first takes a permit from the shared {@link AdaptiveTokenBucket}, so the client stays under the
+ * limit the upstream enforces instead of running into its 30-90 second lockout. Throttled, failed and 5xx
+ * requests are retried with full-jitter exponential back-off up to {@code maxAttempts}; when neither the retry
+ * nor the rate-limit budget allows another attempt an {@link UpstreamUnavailableException} is thrown.
+ * </p>
+ * <p>
+ * Creates and deletes are not idempotent: a timeout or 5xx may come after the upstream applied them, and a replay
+ * would create a second employee or delete another one of the same name. They are only retried when throttled or
+ * when the connection was never established.
+ * </p>
+ * The underlying {@link HttpClient} keeps connections alive and pools them per upstream host.
+ */
+@Slf4j
+public class MockEmployeeClient {
+
+    private static final TypeReference<UpstreamResponse<List<UpstreamEmployee>>> EMPLOYEE_LIST =
+            new TypeReference<>() {};
+    private static final TypeReference<UpstreamResponse<UpstreamEmployee>> EMPLOYEE = new TypeReference<>() {};
+    private static final TypeReference<UpstreamResponse<Boolean>> BOOLEAN = new TypeReference<>() {};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final AdaptiveTokenBucket rateLimiter;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration maxWait;
+
+    public MockEmployeeClient(
+            HttpClient httpClient,
+            ObjectMapper objectMapper,
+            AdaptiveTokenBucket rateLimiter,
+            URI baseUri,
+            Duration requestTimeout,
+            int maxAttempts,
+            Duration backoffBase,
+            Duration backoffMax,
+            Duration maxWait) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.maxWait = maxWait;
+    }
+
+    public List<UpstreamEmployee> getEmployees() {
+        HttpResponse<byte[]> response = send("getEmployees", request(baseUri).GET().build(), true);
+        return Optional.ofNullable(read(response, EMPLOYEE_LIST).data()).orElse(List.of());
+    }
+
+    /**
+     * Streams the full employee list through {@code action} as it is read from the response, so memory use does
+     * not grow with the size of the list.
+     * <p>
+     * Only establishing the response is retried; a failure while the list is being read is thrown to the caller.
+     * </p>
+     * @return the number of employees passed to {@code action}
+     */
+    public long forEachEmployee(Consumer<UpstreamEmployee> action) {
+        HttpResponse<InputStream> response =
+                send("getEmployees", request(baseUri).GET().build(), true, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException("Upstream rejected request with status " + response.statusCode()
+                        + ": " + new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            return readEmployees(body, action);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable upstream response", e);
+        }
+    }
+
+    public Optional<UpstreamEmployee> getEmployee(UUID id) {
+        HttpResponse<byte[]> response =
+                send("getEmployee", request(URI.create(baseUri + "/" + id)).GET().build(), true);
+        if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(read(response, EMPLOYEE).data());
+    }
+
+    public UpstreamEmployee createEmployee(EmployeeDTO employeeInput) {
+        UpstreamCreateEmployeeInput body = new UpstreamCreateEmployeeInput(
+                employeeInput.getName(), employeeInput.getSalary(), employeeInput.getAge(), employeeInput.getTitle());
+        HttpResponse<byte[]> response = send(
+                "createEmployee",
+                request(baseUri)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(write(body)))
+                        .build(),
+                false);
+        return read(response, EMPLOYEE).data();
+    }
+
+    public boolean deleteEmployee(String name) {
+        HttpResponse<byte[]> response = send(
+                "deleteEmployee",
+                request(baseUri)
+                        .header("Content-Type", "application/json")
+                        .method(
+                                "DELETE",
+                                HttpRequest.BodyPublishers.ofByteArray(write(new UpstreamDeleteEmployeeInput(name))))
+                        .build(),
+                false);
+        return Boolean.TRUE.equals(read(response, BOOLEAN).data());
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(requestTimeout).header("Accept", "application/json");
+    }
+
+    // The envelope is {"data": [...], "status": ..., "error": ...}; employees are bound one at a time.
+    private long readEmployees(InputStream body, Consumer<UpstreamEmployee> action) throws IOException {
+        long count = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Unreadable upstream response: expected an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        action.accept(objectMapper.readValue(parser, UpstreamEmployee.class));
+                        count++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return count;
+    }
+
+    private HttpResponse<byte[]> send(String operation, HttpRequest request, boolean idempotent) {
+        return send(operation, request, idempotent, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Sends the request through the rate limiter, retrying throttled and unconnected attempts and, if the request
+     * is {@code idempotent}, every other failure and 5xx as well.
+     * Other responses, including 4xx, are returned to the caller as is.
+     */
+    private <T> HttpResponse<T> send(
+            String operation, HttpRequest request, boolean idempotent, HttpResponse.BodyHandler<T> bodyHandler) {
+        for (int attempt = 1; ; attempt++) {
+            long permit = awaitPermit(operation);
+            String failure;
+            boolean retryable;
+            try {
+                HttpResponse<T> response = httpClient.send(request, bodyHandler);
+                int status = response.statusCode();
+                if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    rateLimiter.onThrottled(permit, retryAfter(response));
+                    discard(response);
+                    failure = "throttled";
+                    retryable = true;
+                } else {
+                    rateLimiter.onAccepted(permit);
+                    if (status < 500) {
+                        return response;
+                    }
+                    discard(response);
+                    failure = "status " + status;
+                    retryable = idempotent;
+                }
+            } catch (IOException e) {
+                failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+                retryable = idempotent || neverSent(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UpstreamUnavailableException("Interrupted while calling upstream " + operation, e);
+            }
+
+            if (!retryable || attempt >= maxAttempts) {
+                throw new UpstreamUnavailableException(
+                        "Upstream " + operation + " failed after " + attempt + " attempts (" + failure + ")",
+                        rateLimiter.timeUntilAvailable());
+            }
+            log.debug("Upstream {} attempt {} failed ({}), retrying", operation, attempt, failure);
+            sleep(backoff(attempt), operation);
+        }
+    }
+
+    // Only failures to connect are certain to have left the request unsent.
+    private static boolean neverSent(IOException e) {
+        return e instanceof ConnectException || e instanceof HttpConnectTimeoutException;
+    }
+
+    private long awaitPermit(String operation) {
+        try {
+            long permit = rateLimiter.acquire(maxWait);
+            if (permit < 0) {
+                throw new UpstreamUnavailableException(
+                        "Upstream rate limit exhausted for " + operation, rateLimiter.timeUntilAvailable());
+            }
+            return permit;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("Interrupted while waiting for upstream " + operation, e);
+        }
+    }
+
+    /*
+     * Full jitter: a random delay between zero and the capped exponential back-off, which keeps concurrent
+     * retries from lining up.
+     */
+    private Duration backoff(int attempt) {
+        long ceiling = Math.min(backoffMax.toMillis(), backoffBase.toMillis() << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private void sleep(Duration duration, String operation) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamUnavailableException("Interrupted while retrying upstream " + operation, e);
+        }
+    }
+
+    // A streamed body holds on to its connection until it is closed.
+    private static void discard(HttpResponse<?> response) {
+        if (response.body() instanceof Closeable body) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                log.debug("Could not close discarded upstream response", e);
+            }
+        }
+    }
+
+    private static Duration retryAfter(HttpResponse<?> response) {
+        return response.headers()
+                .firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Duration.ofSeconds(Long.parseLong(value.trim()));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+
+    private <T> T read(HttpResponse<byte[]> response, TypeReference<T> type) {
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Upstream rejected request with status " + response.statusCode() + ": "
+                    + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable upstream response", e);
+        }
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize upstream request", e);
+        }
+    }
+}
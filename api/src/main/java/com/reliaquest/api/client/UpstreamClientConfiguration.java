@@ -0,0 +1,57 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UpstreamClientConfiguration {
+
+    /*
+     * The JDK client pools keep-alive connections per host; one shared instance means requests reuse them
+     * instead of paying a TCP handshake each time.
+     */
+    @Bean
+    public HttpClient upstreamHttpClient(@Value("${upstream.connect-timeout:2s}") Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public AdaptiveTokenBucket upstreamRateLimiter(
+            @Value("${upstream.rate-limit.initial-capacity:5}") int initialCapacity,
+            @Value("${upstream.rate-limit.refill-interval:30s}") Duration refillInterval,
+            @Value("${upstream.rate-limit.max-cooldown:120s}") Duration maxCooldown) {
+        return new AdaptiveTokenBucket(initialCapacity, refillInterval, maxCooldown);
+    }
+
+    @Bean
+    public MockEmployeeClient mockEmployeeClient(
+            HttpClient upstreamHttpClient,
+            ObjectMapper objectMapper,
+            AdaptiveTokenBucket upstreamRateLimiter,
+            @Value("${upstream.base-url:http://localhost:8112/api/v1/employee}") URI baseUri,
+            @Value("${upstream.request-timeout:5s}") Duration requestTimeout,
+            @Value("${upstream.retry.max-attempts:4}") int maxAttempts,
+            @Value("${upstream.retry.backoff-base:200ms}") Duration backoffBase,
+            @Value("${upstream.retry.backoff-max:5s}") Duration backoffMax,
+            @Value("${upstream.max-wait:10s}") Duration maxWait) {
+        return new MockEmployeeClient(
+                upstreamHttpClient,
+                objectMapper,
+                upstreamRateLimiter,
+                baseUri,
+                requestTimeout,
+                maxAttempts,
+                backoffBase,
+                backoffMax,
+                maxWait);
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.EmployeeQueryCache;
+import com.reliaquest.api.sync.EmployeeSync;
+import com.reliaquest.api.sync.EmployeeSyncStatus;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Operational endpoints that sit outside the {@link IEmployeeController} contract.
+ */
+@RestController
+@RequestMapping("api/v1/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final EmployeeQueryCache employeeQueryCache;
+    private final EmployeeSync employeeSync;
+
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Number>> getCacheStats() {
+        return ResponseEntity.ok(employeeQueryCache.stats());
+    }
+
+    @GetMapping("/sync")
+    public ResponseEntity<EmployeeSyncStatus> getSyncStatus() {
+        return ResponseEntity.ok(employeeSync.status());
+    }
+
+    /**
+     * Starts a sync cycle in the background: 202 Accepted, or 409 Conflict while a cycle is already running.
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<EmployeeSyncStatus> triggerSync() {
+        HttpStatus started = employeeSync.trigger() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(started).body(employeeSync.status());
+    }
+}
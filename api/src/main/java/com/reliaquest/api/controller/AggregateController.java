@@ -0,0 +1,70 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.SalaryAggregate;
+import com.reliaquest.api.service.impl.EmployeeAggregateService;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Salary and age aggregates over all employees, maintained in memory as employees are created and deleted.
+ */
+@RestController
+@RequestMapping("api/v1/aggregates")
+@RequiredArgsConstructor
+public class AggregateController {
+
+    static final int MAX_TOP_EARNERS = 1000;
+
+    private final EmployeeAggregateService employeeAggregateService;
+
+    /**
+     * Salary statistics over all employees, or over those within the optional, inclusive age and salary ranges
+     * and with the given title.
+     */
+    @GetMapping("/salary")
+    public ResponseEntity<SalaryAggregate> getSalaryAggregate(
+            @RequestParam(value = "minAge", required = false) Integer minAge,
+            @RequestParam(value = "maxAge", required = false) Integer maxAge,
+            @RequestParam(value = "minSalary", required = false) Integer minSalary,
+            @RequestParam(value = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(value = "title", required = false) String title) {
+        return ResponseEntity.ok(employeeAggregateService.getSalaryAggregate(
+                new EmployeeFilter(minAge, maxAge, minSalary, maxSalary, title)));
+    }
+
+    /**
+     * Names of the {@code limit} highest earners among the employees matching the same filters as
+     * {@code /salary}.
+     */
+    @GetMapping("/top-earners")
+    public ResponseEntity<List<String>> getTopEarnerNames(
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            @RequestParam(value = "minAge", required = false) Integer minAge,
+            @RequestParam(value = "maxAge", required = false) Integer maxAge,
+            @RequestParam(value = "minSalary", required = false) Integer minSalary,
+            @RequestParam(value = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(value = "title", required = false) String title) {
+        if (limit < 1 || limit > MAX_TOP_EARNERS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TOP_EARNERS);
+        }
+        return ResponseEntity.ok(employeeAggregateService.getTopEarnerNames(
+                limit, new EmployeeFilter(minAge, maxAge, minSalary, maxSalary, title)));
+    }
+
+    @GetMapping("/salary/by-title")
+    public ResponseEntity<Map<String, SalaryAggregate>> getSalaryAggregatesByTitle() {
+        return ResponseEntity.ok(employeeAggregateService.getSalaryAggregatesByTitle());
+    }
+
+    @GetMapping("/age")
+    public ResponseEntity<Map<String, Long>> getAgeHistogram() {
+        return ResponseEntity.ok(employeeAggregateService.getAgeHistogram());
+    }
+}
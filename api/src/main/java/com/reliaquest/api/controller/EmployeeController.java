@@ -1,44 +1,94 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.cache.EmployeeDataVersion;
+import com.reliaquest.api.model.BulkOperationResult;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.EmployeeSearchCriteria;
 import com.reliaquest.api.model.entity.Employee;
 import com.reliaquest.api.service.impl.EmployeeService;
+import com.reliaquest.api.web.EmployeeJsonStreamWriter;
 import java.util.List;
-import java.util.Optional;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("api/v1/employees")
 @RequiredArgsConstructor
 public class EmployeeController implements IEmployeeController<Employee, EmployeeDTO> {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BULK_SIZE = 10_000;
+
     private final EmployeeService employeeService;
+    private final EmployeeJsonStreamWriter employeeJsonStreamWriter;
+    private final EmployeeDataVersion employeeDataVersion;
 
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
-        List<Employee> employeesList = employeeService.searchEmployee(new EmployeeSearchCriteria());
-        return new ResponseEntity<>(employeesList, HttpStatus.OK);
+        return conditionalSearch(new EmployeeSearchCriteria());
+    }
+
+    /**
+     * Streams all employees straight from a database cursor instead of building the full list first.
+     * Opt in with {@code ?stream=json} for a JSON array or {@code ?stream=ndjson} for newline-delimited JSON.
+     */
+    @GetMapping(params = "stream")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees(@RequestParam("stream") String stream) {
+        EmployeeJsonStreamWriter.Format format = EmployeeJsonStreamWriter.Format.from(stream);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(out -> employeeJsonStreamWriter.writeAll(out, format));
     }
 
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
-        List<Employee> employeesList = employeeService.searchEmployee(
-                EmployeeSearchCriteria.builder().name(searchString).build());
-        return new ResponseEntity<>(employeesList, HttpStatus.OK);
+        return conditionalSearch(EmployeeSearchCriteria.builder().name(searchString).build());
+    }
+
+    /**
+     * Keyset-paginated variant of {@link #getAllEmployees()}, selected by passing {@code limit}.
+     * The next page's cursor is returned in the {@value #NEXT_CURSOR_HEADER} and {@code Link} headers.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<List<Employee>> getEmployeesPage(
+            @RequestParam("limit") int limit, @RequestParam(value = "cursor", required = false) String cursor) {
+        return pageResponse(employeeService.searchEmployeePage(new EmployeeSearchCriteria(), cursor, checked(limit)));
+    }
+
+    /**
+     * Keyset-paginated variant of {@link #getEmployeesByNameSearch(String)}, selected by passing {@code limit}.
+     */
+    @GetMapping(value = "/search/{searchString}", params = "limit")
+    public ResponseEntity<List<Employee>> getEmployeesByNameSearchPage(
+            @PathVariable String searchString,
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        return pageResponse(employeeService.searchEmployeePage(
+                EmployeeSearchCriteria.builder().name(searchString).build(), cursor, checked(limit)));
     }
 
     @Override
     public ResponseEntity<Employee> getEmployeeById(String id) {
-        List<Employee> employeesList = employeeService.searchEmployee(
-                EmployeeSearchCriteria.builder().id(id).build());
-        return new ResponseEntity<>(Optional.of(employeesList.get(0)).orElse(new Employee()), HttpStatus.OK);
+        return new ResponseEntity<>(employeeService.getEmployeeById(id), HttpStatus.OK);
     }
 
     @Override
@@ -58,8 +108,62 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return new ResponseEntity<>(employeeService.createEmployee(employeeInput), HttpStatus.CREATED);
     }
 
+    /**
+     * Creates many employees in one request and reports the outcome of each one.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkOperationResult>> createEmployees(@RequestBody List<EmployeeDTO> employeeInputs) {
+        if (employeeInputs.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " employees can be created at once");
+        }
+        return new ResponseEntity<>(employeeService.createEmployees(employeeInputs), HttpStatus.OK);
+    }
+
     @Override
     public ResponseEntity<String> deleteEmployeeById(String id) {
         return new ResponseEntity<>(employeeService.deleteEmployee(id), HttpStatus.CREATED);
     }
+
+    /**
+     * Deletes many employees in one transaction and reports the outcome of each id.
+     */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<List<BulkOperationResult>> deleteEmployees(@RequestBody List<String> ids) {
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " employees can be deleted at once");
+        }
+        return new ResponseEntity<>(employeeService.deleteEmployees(ids), HttpStatus.OK);
+    }
+
+    /*
+     * Answers If-None-Match from the data version alone, so a client that is up to date costs no query at all.
+     */
+    private ResponseEntity<List<Employee>> conditionalSearch(EmployeeSearchCriteria criteria) {
+        String etag = employeeDataVersion.etag(criteria);
+        ServletRequestAttributes attributes =
+                (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        if (new ServletWebRequest(attributes.getRequest()).checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(employeeService.searchEmployee(criteria));
+    }
+
+    private static int checked(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+
+    private static ResponseEntity<List<Employee>> pageResponse(EmployeePage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.employees());
+    }
 }
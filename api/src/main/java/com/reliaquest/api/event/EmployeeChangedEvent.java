@@ -0,0 +1,23 @@
+package com.reliaquest.api.event;
+
+import com.reliaquest.api.model.entity.Employee;
+
+/**
+ * Published by {@link com.reliaquest.api.service.impl.EmployeeService} whenever an employee is created or deleted.
+ * Listeners that keep derived state (caches, indexes) should react once the surrounding transaction has committed.
+ */
+public record EmployeeChangedEvent(Type type, Employee employee) {
+
+    public static EmployeeChangedEvent created(Employee employee) {
+        return new EmployeeChangedEvent(Type.CREATED, employee);
+    }
+
+    public static EmployeeChangedEvent deleted(Employee employee) {
+        return new EmployeeChangedEvent(Type.DELETED, employee);
+    }
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -1,6 +1,7 @@
 package com.reliaquest.api.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -45,6 +47,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 
+    /**
+     * Handles UpstreamUnavailableException (503 Service Unavailable) and tells the caller when to retry.
+     */
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<String> handleUpstreamUnavailable(UpstreamUnavailableException ex) {
+        return serviceUnavailable(ex.getMessage(), ex.getRetryAfter());
+    }
+
+    /**
+     * Handles WriteBufferFullException (503 Service Unavailable) so writers back off while the buffer drains.
+     */
+    @ExceptionHandler(WriteBufferFullException.class)
+    public ResponseEntity<String> handleWriteBufferFull(WriteBufferFullException ex) {
+        return serviceUnavailable(ex.getMessage(), ex.getRetryAfter());
+    }
+
     /**
      * Handles all other uncaught exceptions (500 Internal Server Error).
      */
@@ -54,4 +72,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body("An unexpected error occurred: " + ex.getMessage());
     }
+
+    /**
+     * 503 Service Unavailable with a Retry-After of {@code retryAfter}, rounded up to whole seconds and at least one.
+     */
+    private ResponseEntity<String> serviceUnavailable(String message, Duration retryAfter) {
+        log.warn(message);
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(message);
+    }
 }
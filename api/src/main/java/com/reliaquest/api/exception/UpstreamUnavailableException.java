@@ -0,0 +1,23 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when the mock employee server cannot be reached within the retry and rate-limit budget.
+ */
+@Getter
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = Duration.ZERO;
+    }
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when a create cannot be queued for a group commit because the write-behind buffer stayed full.
+ */
+@Getter
+public class WriteBufferFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public WriteBufferFullException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,570 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.SalaryAggregate;
+import com.reliaquest.api.model.entity.Employee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-optimized, column-oriented copy of the {@code users} table for analytical scans.
+ * <p>
+ * Each column is a primitive array indexed by row: salary and age as {@code int}s, the title as a code into a
+ * dictionary of distinct titles, and the id as two {@code long}s. Names and emails are stored UTF-8 encoded in one
+ * direct buffer outside the heap and only decoded for rows that end up in a result. Together with the id lookup
+ * table a row costs under 100 bytes of heap, against several hundred for an {@link Employee} entity with its boxed
+ * fields, {@link UUID} and strings.
+ * </p>
+ * <p>
+ * Rows are kept dense: a delete moves the last row into the freed slot, so scans never skip tombstones. Space in
+ * the string buffer left behind by deletes is reclaimed once it makes up half of the buffer. Scans over more than
+ * {@value #PARALLEL_THRESHOLD} rows are split into chunks and run on the common fork-join pool. Writes take an
+ * exclusive lock; scans share it.
+ * </p>
+ */
+@Component
+public class ColumnarEmployeeSnapshot implements EmployeeIndex {
+
+    static final int PARALLEL_THRESHOLD = 65_536;
+
+    private static final int CHUNK_SIZE = 16_384;
+    private static final int INITIAL_ROWS = 1_024;
+    private static final int INITIAL_STRING_BYTES = 64 * 1_024;
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.95, 0.99};
+    private static final int HISTOGRAM_SUB_BITS = 6;
+    private static final int HISTOGRAM_BUCKETS = (32 - HISTOGRAM_SUB_BITS) << HISTOGRAM_SUB_BITS;
+
+    // Marks a missing salary or age, and an employee without a title.
+    private static final int NULL = Integer.MIN_VALUE;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // All guarded by lock.
+    private final RowMap rowById = new RowMap();
+    private final List<String> titleDictionary = new ArrayList<>();
+    private final Map<String, Integer> titleCodes = new HashMap<>();
+    private int size;
+    private long[] idHigh;
+    private long[] idLow;
+    private int[] salaries;
+    private int[] ages;
+    private int[] titles;
+    private int[] nameOffsets;
+    private int[] nameLengths;
+    private int[] emailOffsets;
+    private int[] emailLengths;
+    private ByteBuffer strings;
+    private int stringsUsed;
+    private int stringsGarbage;
+
+    public ColumnarEmployeeSnapshot() {
+        reset();
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            UUID id = employee.getId();
+            int existing = rowById.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (existing != RowMap.ABSENT) {
+                removeRow(existing);
+            }
+            ensureRowCapacity(size + 1);
+            int row = size++;
+            idHigh[row] = id.getMostSignificantBits();
+            idLow[row] = id.getLeastSignificantBits();
+            salaries[row] = employee.getSalary() == null ? NULL : employee.getSalary();
+            ages[row] = employee.getAge() == null ? NULL : employee.getAge();
+            titles[row] = employee.getTitle() == null ? NULL : titleCode(employee.getTitle());
+            byte[] name = bytes(employee.getName());
+            byte[] email = bytes(employee.getEmail());
+            // The slot may still describe strings of a removed row, which a compaction while appending would copy.
+            nameLengths[row] = -1;
+            emailLengths[row] = -1;
+            nameOffsets[row] = appendString(name);
+            nameLengths[row] = name == null ? -1 : name.length;
+            emailOffsets[row] = appendString(email);
+            emailLengths[row] = email == null ? -1 : email.length;
+            rowById.put(idHigh[row], idLow[row], row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            UUID id = employee.getId();
+            int row = rowById.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (row != RowMap.ABSENT) {
+                removeRow(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns salary statistics over the employees matching {@code filter}. Count, sum, min and max are exact;
+     * percentiles come from a histogram and are within 1% of an actual salary, as {@link SalaryAggregate} allows.
+     */
+    public SalaryAggregate salary(EmployeeFilter filter) {
+        lock.readLock().lock();
+        try {
+            SalaryAccumulator result = scan(
+                    filter, SalaryAccumulator::new, SalaryAccumulator::add, SalaryAccumulator::combine);
+            return result == null ? SalaryAggregate.empty() : result.toAggregate();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the names of the {@code limit} highest earners matching {@code filter}, highest first; ties are
+     * broken by id like {@link SalaryIndex}.
+     */
+    public List<String> topNames(int limit, EmployeeFilter filter) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            TopRows top = scan(filter, () -> new TopRows(limit), TopRows::offer, TopRows::combine);
+            return top == null ? List.of() : top.sorted().stream().map(this::name).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Folds every matching row with a salary into one accumulator per chunk, then combines the chunks. Returns
+     * null when the filter names a title that no employee has.
+     */
+    private <A> A scan(
+            EmployeeFilter filter, Supplier<A> supplier, ObjIntConsumer<A> accumulator, BinaryOperator<A> combiner) {
+        int titleCode = NULL;
+        if (filter.title() != null) {
+            Integer code = titleCodes.get(filter.title());
+            if (code == null) {
+                return null;
+            }
+            titleCode = code;
+        }
+        // NULL is below every lower bound, so a missing salary never matches, nor a missing age under an age filter.
+        boolean ageBounded = filter.minAge() != null || filter.maxAge() != null;
+        int minAge = !ageBounded ? NULL : filter.minAge() == null ? NULL + 1 : Math.max(NULL + 1, filter.minAge());
+        int maxAge = filter.maxAge() == null ? Integer.MAX_VALUE : filter.maxAge();
+        int minSalary = filter.minSalary() == null ? NULL + 1 : Math.max(NULL + 1, filter.minSalary());
+        int maxSalary = filter.maxSalary() == null ? Integer.MAX_VALUE : filter.maxSalary();
+        int wantedTitle = titleCode;
+        // Zero-extends the title difference, or clears it when every title matches.
+        long titleMask = titleCode == NULL ? 0L : 0xFFFF_FFFFL;
+        int[] salaryColumn = salaries;
+        int[] ageColumn = ages;
+        int[] titleColumn = titles;
+
+        int rows = size;
+        int chunks = rows <= PARALLEL_THRESHOLD ? 1 : (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream chunkIds = IntStream.range(0, chunks);
+        return (chunks > 1 ? chunkIds.parallel() : chunkIds)
+                .mapToObj(chunk -> {
+                    A result = supplier.get();
+                    int start = chunks == 1 ? 0 : chunk * CHUNK_SIZE;
+                    int end = chunks == 1 ? rows : Math.min(rows, start + CHUNK_SIZE);
+                    for (int row = start; row < end; row++) {
+                        // Each term is negative exactly when its condition fails, so one sign test replaces a branch per
+                        // condition; with random data those branches mispredict often. Longs keep the differences
+                        // from overflowing.
+                        int salary = salaryColumn[row];
+                        int age = ageColumn[row];
+                        long outside = ((long) salary - minSalary)
+                                | ((long) maxSalary - salary)
+                                | ((long) age - minAge)
+                                | ((long) maxAge - age)
+                                | -((titleColumn[row] ^ wantedTitle) & titleMask);
+                        if (outside >= 0) {
+                            accumulator.accept(result, row);
+                        }
+                    }
+                    return result;
+                })
+                .reduce(combiner)
+                .orElseGet(supplier);
+    }
+
+    /*
+     * Count, sum, min and max folded in one pass, plus a fixed-size log-linear histogram for the percentiles, so
+     * a query allocates one small array per chunk however many rows match. Salaries below 128 get a bucket each;
+     * above that every power of two is split into 64 buckets, so a bucket's midpoint is within 1% of every
+     * salary in it.
+     */
+    private final class SalaryAccumulator {
+
+        private final int[] buckets = new int[HISTOGRAM_BUCKETS];
+        private int count;
+        private long sum;
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+
+        void add(int row) {
+            int salary = salaries[row];
+            buckets[bucket(salary)]++;
+            count++;
+            sum += salary;
+            min = Math.min(min, salary);
+            max = Math.max(max, salary);
+        }
+
+        SalaryAccumulator combine(SalaryAccumulator other) {
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                buckets[i] += other.buckets[i];
+            }
+            count += other.count;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            return this;
+        }
+
+        SalaryAggregate toAggregate() {
+            if (count == 0) {
+                return SalaryAggregate.empty();
+            }
+            Map<String, Integer> percentiles = new LinkedHashMap<>();
+            int bucket = 0;
+            long seen = buckets[0];
+            for (double q : PERCENTILES) {
+                long rank = (long) Math.floor(q * (count - 1));
+                while (seen <= rank) {
+                    seen += buckets[++bucket];
+                }
+                percentiles.put("p" + Math.round(q * 100), (int) Math.max(min, Math.min(max, midpoint(bucket))));
+            }
+            return new SalaryAggregate(count, sum, min, max, (double) sum / count, percentiles);
+        }
+    }
+
+    private static int bucket(int salary) {
+        int value = Math.max(0, salary);
+        int shift = Math.max(0, 31 - Integer.numberOfLeadingZeros(value) - HISTOGRAM_SUB_BITS);
+        return (shift << HISTOGRAM_SUB_BITS) + (value >>> shift);
+    }
+
+    private static long midpoint(int bucket) {
+        if (bucket < 2 << HISTOGRAM_SUB_BITS) {
+            return bucket;
+        }
+        int shift = (bucket >>> HISTOGRAM_SUB_BITS) - 1;
+        long lower = (long) (bucket - (shift << HISTOGRAM_SUB_BITS)) << shift;
+        return lower + (1L << (shift - 1));
+    }
+
+    /*
+     * Bounded min-heap of row numbers: the head is the lowest-ranked row kept so far.
+     */
+    private final class TopRows {
+
+        private final int limit;
+        private final PriorityQueue<Integer> heap;
+
+        TopRows(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 1_024) + 1, (a, b) -> rank(b, a));
+        }
+
+        void offer(int row) {
+            if (heap.size() < limit) {
+                heap.add(row);
+            } else if (rank(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(row);
+            }
+        }
+
+        TopRows combine(TopRows other) {
+            other.heap.forEach(this::offer);
+            return this;
+        }
+
+        List<Integer> sorted() {
+            List<Integer> rows = new ArrayList<>(heap);
+            rows.sort(ColumnarEmployeeSnapshot.this::rank);
+            return rows;
+        }
+    }
+
+    /*
+     * Negative when row a ranks above row b: higher salary first, then lower id, as UUID.compareTo orders them.
+     */
+    private int rank(int a, int b) {
+        int bySalary = Integer.compare(salaries[b], salaries[a]);
+        if (bySalary != 0) {
+            return bySalary;
+        }
+        int byHigh = Long.compare(idHigh[a], idHigh[b]);
+        return byHigh != 0 ? byHigh : Long.compare(idLow[a], idLow[b]);
+    }
+
+    private String name(int row) {
+        return string(nameOffsets[row], nameLengths[row]);
+    }
+
+    private String string(int offset, int length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        strings.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void reset() {
+        rowById.clear();
+        titleDictionary.clear();
+        titleCodes.clear();
+        size = 0;
+        idHigh = new long[INITIAL_ROWS];
+        idLow = new long[INITIAL_ROWS];
+        salaries = new int[INITIAL_ROWS];
+        ages = new int[INITIAL_ROWS];
+        titles = new int[INITIAL_ROWS];
+        nameOffsets = new int[INITIAL_ROWS];
+        nameLengths = new int[INITIAL_ROWS];
+        emailOffsets = new int[INITIAL_ROWS];
+        emailLengths = new int[INITIAL_ROWS];
+        strings = ByteBuffer.allocateDirect(INITIAL_STRING_BYTES);
+        stringsUsed = 0;
+        stringsGarbage = 0;
+    }
+
+    private void removeRow(int row) {
+        rowById.remove(idHigh[row], idLow[row]);
+        stringsGarbage += Math.max(0, nameLengths[row]) + Math.max(0, emailLengths[row]);
+        int last = --size;
+        if (row != last) {
+            idHigh[row] = idHigh[last];
+            idLow[row] = idLow[last];
+            salaries[row] = salaries[last];
+            ages[row] = ages[last];
+            titles[row] = titles[last];
+            nameOffsets[row] = nameOffsets[last];
+            nameLengths[row] = nameLengths[last];
+            emailOffsets[row] = emailOffsets[last];
+            emailLengths[row] = emailLengths[last];
+            rowById.put(idHigh[row], idLow[row], row);
+        }
+        if (stringsGarbage > INITIAL_STRING_BYTES && stringsGarbage * 2 > stringsUsed) {
+            compactStrings(strings.capacity());
+        }
+    }
+
+    private int titleCode(String title) {
+        return titleCodes.computeIfAbsent(title, ignored -> {
+            titleDictionary.add(title);
+            return titleDictionary.size() - 1;
+        });
+    }
+
+    private void ensureRowCapacity(int rows) {
+        if (rows <= salaries.length) {
+            return;
+        }
+        int capacity = Math.max(rows, salaries.length * 2);
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        nameOffsets = Arrays.copyOf(nameOffsets, capacity);
+        nameLengths = Arrays.copyOf(nameLengths, capacity);
+        emailOffsets = Arrays.copyOf(emailOffsets, capacity);
+        emailLengths = Arrays.copyOf(emailLengths, capacity);
+    }
+
+    private int appendString(byte[] bytes) {
+        if (bytes == null) {
+            return 0;
+        }
+        if (stringsUsed + bytes.length > strings.capacity()) {
+            int live = stringsUsed - stringsGarbage;
+            compactStrings((int) Math.min(Integer.MAX_VALUE - 8, Math.max(2L * (live + bytes.length), 1_024)));
+        }
+        int offset = stringsUsed;
+        strings.put(offset, bytes);
+        stringsUsed += bytes.length;
+        return offset;
+    }
+
+    /*
+     * Copies the strings of live rows into a new buffer of the given capacity, dropping the bytes of deleted rows.
+     */
+    private void compactStrings(int capacity) {
+        ByteBuffer compacted = ByteBuffer.allocateDirect(capacity);
+        int used = 0;
+        for (int row = 0; row < size; row++) {
+            if (nameLengths[row] > 0) {
+                compacted.put(used, strings, nameOffsets[row], nameLengths[row]);
+                nameOffsets[row] = used;
+                used += nameLengths[row];
+            }
+            if (emailLengths[row] > 0) {
+                compacted.put(used, strings, emailOffsets[row], emailLengths[row]);
+                emailOffsets[row] = used;
+                used += emailLengths[row];
+            }
+        }
+        strings = compacted;
+        stringsUsed = used;
+        stringsGarbage = 0;
+    }
+
+    /*
+     * Open-addressing hash map from an id, as its two halves, to a row number, so the lookup table holds no
+     * objects per row. Linear probing; removal shifts later entries back instead of leaving tombstones.
+     */
+    private static final class RowMap {
+
+        static final int ABSENT = -1;
+
+        private static final int INITIAL_CAPACITY = 2_048;
+
+        private long[] high;
+        private long[] low;
+        private int[] rows;
+        private int mask;
+        private int count;
+
+        RowMap() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        void clear() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        int get(long idHigh, long idLow) {
+            for (int slot = slot(idHigh, idLow); ; slot = (slot + 1) & mask) {
+                if (rows[slot] == ABSENT || (high[slot] == idHigh && low[slot] == idLow)) {
+                    return rows[slot];
+                }
+            }
+        }
+
+        void put(long idHigh, long idLow, int row) {
+            if ((count + 1) * 2 > rows.length) {
+                resize(rows.length * 2);
+            }
+            for (int slot = slot(idHigh, idLow); ; slot = (slot + 1) & mask) {
+                if (rows[slot] == ABSENT) {
+                    high[slot] = idHigh;
+                    low[slot] = idLow;
+                    rows[slot] = row;
+                    count++;
+                    return;
+                }
+                if (high[slot] == idHigh && low[slot] == idLow) {
+                    rows[slot] = row;
+                    return;
+                }
+            }
+        }
+
+        void remove(long idHigh, long idLow) {
+            int slot = slot(idHigh, idLow);
+            while (rows[slot] != ABSENT && (high[slot] != idHigh || low[slot] != idLow)) {
+                slot = (slot + 1) & mask;
+            }
+            if (rows[slot] == ABSENT) {
+                return;
+            }
+            rows[slot] = ABSENT;
+            count--;
+            // Move back every following entry whose probe sequence passes through the freed slot.
+            for (int next = (slot + 1) & mask; rows[next] != ABSENT; next = (next + 1) & mask) {
+                int home = slot(high[next], low[next]);
+                boolean homeBetween = slot <= next ? slot < home && home <= next : slot < home || home <= next;
+                if (!homeBetween) {
+                    high[slot] = high[next];
+                    low[slot] = low[next];
+                    rows[slot] = rows[next];
+                    rows[next] = ABSENT;
+                    slot = next;
+                }
+            }
+        }
+
+        private void resize(int capacity) {
+            long[] oldHigh = high;
+            long[] oldLow = low;
+            int[] oldRows = rows;
+            allocate(capacity);
+            for (int i = 0; i < oldRows.length; i++) {
+                if (oldRows[i] != ABSENT) {
+                    put(oldHigh[i], oldLow[i], oldRows[i]);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            high = new long[capacity];
+            low = new long[capacity];
+            rows = new int[capacity];
+            Arrays.fill(rows, ABSENT);
+            mask = capacity - 1;
+            count = 0;
+        }
+
+        private int slot(long idHigh, long idLow) {
+            long hash = idHigh * 31 + idLow;
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return (int) hash & mask;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,174 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.SalaryAggregate;
+import com.reliaquest.api.model.entity.Employee;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Materialized salary and age aggregates over all employees, kept current one employee at a time.
+ * <p>
+ * Salary statistics are held for all employees and per title. Each keeps an exact count and sum, a sorted
+ * multiset of salaries for exact min and max after deletes, and a {@link SalarySketch} for percentiles. Ages
+ * are counted in bands of {@value #AGE_BAND_WIDTH} years. Reads cost O(titles x sketch buckets) regardless of the
+ * number of employees.
+ * </p>
+ * <p>
+ * Like {@code AVG} and {@code GROUP BY} in SQL, employees without a salary do not count towards salary
+ * statistics, employees without a title only count towards the overall ones, and employees without an age are left
+ * out of the histogram.
+ * </p>
+ */
+@Component
+public class EmployeeAggregateIndex implements EmployeeIndex {
+
+    static final int AGE_BAND_WIDTH = 10;
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.95, 0.99};
+
+    private record Contribution(String title, Integer salary, Integer age) {}
+
+    private static final class SalaryStats {
+
+        private final TreeMap<Integer, Integer> salaries = new TreeMap<>();
+        private final SalarySketch sketch = new SalarySketch();
+        private long count;
+        private long sum;
+
+        void add(int salary) {
+            salaries.merge(salary, 1, Integer::sum);
+            sketch.add(salary);
+            count++;
+            sum += salary;
+        }
+
+        void remove(int salary) {
+            Integer n = salaries.get(salary);
+            if (n == null) {
+                return;
+            }
+            if (n == 1) {
+                salaries.remove(salary);
+            } else {
+                salaries.put(salary, n - 1);
+            }
+            sketch.remove(salary);
+            count--;
+            sum -= salary;
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        SalaryAggregate snapshot() {
+            if (count == 0) {
+                return SalaryAggregate.empty();
+            }
+            int min = salaries.firstKey();
+            int max = salaries.lastKey();
+            Map<String, Integer> percentiles = new LinkedHashMap<>();
+            for (double q : PERCENTILES) {
+                // The sketch is accurate to 1%; never report past the exact bounds.
+                long estimate = Math.round(sketch.quantile(q));
+                percentiles.put(label(q), (int) Math.max(min, Math.min(max, estimate)));
+            }
+            return new SalaryAggregate(count, sum, min, max, (double) sum / count, percentiles);
+        }
+
+        private static String label(double q) {
+            return "p" + Math.round(q * 100);
+        }
+    }
+
+    private final Map<UUID, Contribution> byId = new HashMap<>();
+    private SalaryStats overall = new SalaryStats();
+    private final Map<String, SalaryStats> byTitle = new TreeMap<>();
+    private final TreeMap<Integer, Long> ageBands = new TreeMap<>();
+
+    @Override
+    public synchronized void clear() {
+        byId.clear();
+        overall = new SalaryStats();
+        byTitle.clear();
+        ageBands.clear();
+    }
+
+    @Override
+    public synchronized void add(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        Contribution contribution = new Contribution(employee.getTitle(), employee.getSalary(), employee.getAge());
+        Contribution previous = byId.put(employee.getId(), contribution);
+        if (previous != null) {
+            subtract(previous);
+        }
+        if (contribution.salary() != null) {
+            overall.add(contribution.salary());
+            if (contribution.title() != null) {
+                byTitle.computeIfAbsent(contribution.title(), ignored -> new SalaryStats())
+                        .add(contribution.salary());
+            }
+        }
+        if (contribution.age() != null) {
+            ageBands.merge(band(contribution.age()), 1L, Long::sum);
+        }
+    }
+
+    @Override
+    public synchronized void remove(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        Contribution previous = byId.remove(employee.getId());
+        if (previous != null) {
+            subtract(previous);
+        }
+    }
+
+    public synchronized SalaryAggregate salary() {
+        return overall.snapshot();
+    }
+
+    public synchronized Map<String, SalaryAggregate> salaryByTitle() {
+        Map<String, SalaryAggregate> result = new LinkedHashMap<>();
+        byTitle.forEach((title, stats) -> result.put(title, stats.snapshot()));
+        return result;
+    }
+
+    /**
+     * Returns the number of employees per age band, such as {@code "30-39"}, in ascending order of age.
+     */
+    public synchronized Map<String, Long> ageHistogram() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        ageBands.forEach((band, count) -> result.put(band + "-" + (band + AGE_BAND_WIDTH - 1), count));
+        return result;
+    }
+
+    private void subtract(Contribution contribution) {
+        if (contribution.salary() != null) {
+            overall.remove(contribution.salary());
+            if (contribution.title() != null) {
+                SalaryStats stats = byTitle.get(contribution.title());
+                if (stats != null) {
+                    stats.remove(contribution.salary());
+                    if (stats.isEmpty()) {
+                        byTitle.remove(contribution.title());
+                    }
+                }
+            }
+        }
+        if (contribution.age() != null) {
+            ageBands.computeIfPresent(band(contribution.age()), (ignored, n) -> n > 1 ? n - 1 : null);
+        }
+    }
+
+    private static int band(int age) {
+        return Math.floorDiv(age, AGE_BAND_WIDTH) * AGE_BAND_WIDTH;
+    }
+}
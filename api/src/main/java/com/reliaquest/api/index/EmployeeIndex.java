@@ -0,0 +1,20 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.entity.Employee;
+
+/**
+ * In-memory structure derived from the {@code users} table and kept current by {@link EmployeeIndexMaintainer}.
+ * <p>
+ * Updates are applied by a single thread at a time, but may be replayed after a rebuild, so {@link #add(Employee)}
+ * and {@link #remove(Employee)} must be idempotent for a given employee id. Reads may happen concurrently with
+ * updates.
+ * </p>
+ */
+public interface EmployeeIndex {
+
+    void clear();
+
+    void add(Employee employee);
+
+    void remove(Employee employee);
+}
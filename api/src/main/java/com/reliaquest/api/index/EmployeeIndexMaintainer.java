@@ -0,0 +1,101 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.EmployeeDataVersion;
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.service.impl.EmployeeDatabaseService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Loads every {@link EmployeeIndex} from the table at startup and applies committed creates and deletes to them.
+ * <p>
+ * While a rebuild scans the table, change events are buffered and replayed once the scan is done, so a write
+ * that races with the scan is never lost. Until the first rebuild completes {@link #isReady()} is {@code false}
+ * and callers should fall back to the database.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EmployeeIndexMaintainer {
+
+    private final EmployeeDatabaseService employeeDao;
+    private final List<EmployeeIndex> indexes;
+    private final Object lock = new Object();
+
+    private volatile boolean ready;
+
+    // Non-null while a rebuild is scanning the table; guarded by lock.
+    private List<EmployeeChangedEvent> pending;
+
+    public EmployeeIndexMaintainer(EmployeeDatabaseService employeeDao, List<EmployeeIndex> indexes) {
+        this.employeeDao = employeeDao;
+        this.indexes = indexes;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (lock) {
+            ready = false;
+            pending = new ArrayList<>();
+            indexes.forEach(EmployeeIndex::clear);
+        }
+
+        AtomicLong loaded = new AtomicLong();
+        boolean complete = false;
+        try {
+            employeeDao.forEachEmployee(employee -> {
+                indexes.forEach(index -> index.add(employee));
+                loaded.incrementAndGet();
+            });
+            complete = true;
+        } catch (RuntimeException e) {
+            log.error("Could not load employee indexes, reads will fall back to the database", e);
+        } finally {
+            synchronized (lock) {
+                pending.forEach(this::apply);
+                pending = null;
+            }
+        }
+        if (!complete) {
+            return;
+        }
+
+        ready = true;
+        log.info(
+                "Loaded {} employees into {} indexes in {} ms",
+                loaded.get(),
+                indexes.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Order(EmployeeDataVersion.INVALIDATION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(event);
+            } else {
+                apply(event);
+            }
+        }
+    }
+
+    private void apply(EmployeeChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> indexes.forEach(index -> index.add(event.employee()));
+            case DELETED -> indexes.forEach(index -> index.remove(event.employee()));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.entity.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inverted index from every three-character substring of a lower-cased name to the employees whose name
+ * contains it.
+ * <p>
+ * A case-insensitive {@code contains} search takes the smallest posting set among the fragment's trigrams and
+ * checks each candidate's full name, so results are exact. Fragments shorter than three characters, fragments
+ * with {@code LIKE} wildcards, and fragments matching more than {@code maxCandidates} employees are left to a
+ * table scan, which is cheaper than an id lookup that large.
+ * </p>
+ */
+@Component
+public class NameTrigramIndex implements EmployeeIndex {
+
+    private static final int GRAM = 3;
+
+    private final int maxCandidates;
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+
+    public NameTrigramIndex(@Value("${employee.search.trigram-max-candidates:5000}") int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public void clear() {
+        names.clear();
+        postings.clear();
+    }
+
+    @Override
+    public void add(Employee employee) {
+        if (employee.getId() == null || employee.getName() == null) {
+            return;
+        }
+        String name = normalize(employee.getName());
+        String previous = names.put(employee.getId(), name);
+        if (previous != null) {
+            unlink(employee.getId(), previous);
+        }
+        for (String trigram : trigrams(name)) {
+            postings.computeIfAbsent(trigram, ignored -> ConcurrentHashMap.newKeySet())
+                    .add(employee.getId());
+        }
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        String previous = names.remove(employee.getId());
+        if (previous != null) {
+            unlink(employee.getId(), previous);
+        }
+    }
+
+    /**
+     * Finds the ids of all employees whose name contains {@code fragment}, ignoring case.
+     *
+     * @return the matching ids, or an empty {@link Optional} if the index cannot serve the fragment and the
+     *         caller should scan instead
+     */
+    public Optional<Set<UUID>> search(String fragment) {
+        String needle = normalize(fragment);
+        if (needle.length() < GRAM || needle.indexOf('%') >= 0 || needle.indexOf('_') >= 0) {
+            return Optional.empty();
+        }
+
+        List<Set<UUID>> lists = new ArrayList<>();
+        for (String trigram : trigrams(needle)) {
+            Set<UUID> ids = postings.get(trigram);
+            if (ids == null || ids.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+            lists.add(ids);
+        }
+        // The rarest trigram bounds the candidates; checking the full name settles the rest.
+        Set<UUID> rarest = lists.stream().min(Comparator.comparingInt(Set::size)).orElseThrow();
+        if (rarest.size() > maxCandidates) {
+            return Optional.empty();
+        }
+
+        Set<UUID> matches = new HashSet<>();
+        for (UUID id : rarest) {
+            String name = names.get(id);
+            if (name != null && name.contains(needle)) {
+                matches.add(id);
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    private void unlink(UUID id, String name) {
+        for (String trigram : trigrams(name)) {
+            postings.computeIfPresent(trigram, (ignored, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + GRAM));
+        }
+        return trigrams;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.entity.Employee;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * Employees ordered by salary, highest first, so the highest salary and the top K names are read in O(K)
+ * instead of sorting or scanning the table.
+ */
+@Component
+public class SalaryIndex implements EmployeeIndex {
+
+    private record Entry(UUID id, String name, int salary) {}
+
+    private static final Comparator<Entry> HIGHEST_FIRST =
+            Comparator.comparingInt(Entry::salary).reversed().thenComparing(Entry::id);
+
+    private final ConcurrentSkipListSet<Entry> bySalary = new ConcurrentSkipListSet<>(HIGHEST_FIRST);
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+
+    @Override
+    public void clear() {
+        byId.clear();
+        bySalary.clear();
+    }
+
+    @Override
+    public void add(Employee employee) {
+        // MAX() and ORDER BY ignore or cannot rank rows without a salary either.
+        if (employee.getId() == null || employee.getSalary() == null) {
+            return;
+        }
+        Entry entry = new Entry(employee.getId(), employee.getName(), employee.getSalary());
+        Entry previous = byId.put(entry.id(), entry);
+        if (previous != null) {
+            bySalary.remove(previous);
+        }
+        bySalary.add(entry);
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        Entry previous = byId.remove(employee.getId());
+        if (previous != null) {
+            bySalary.remove(previous);
+        }
+    }
+
+    public Optional<Integer> highestSalary() {
+        Iterator<Entry> highest = bySalary.iterator();
+        return highest.hasNext() ? Optional.of(highest.next().salary()) : Optional.empty();
+    }
+
+    public List<String> topNames(int limit) {
+        return bySalary.stream().limit(limit).map(Entry::name).toList();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+}
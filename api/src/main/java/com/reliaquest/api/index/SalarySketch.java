@@ -0,0 +1,71 @@
+package com.reliaquest.api.index;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Quantile sketch with a bounded relative error that, unlike most sketches, also supports removing values.
+ * <p>
+ * Values are counted in logarithmic buckets whose bounds grow by a factor of {@code (1 + a) / (1 - a)}, so every
+ * quantile is reported within {@code a} of a value actually in the set (a DDSketch). Removing a value just
+ * decrements its bucket. The number of buckets depends on the salary range, not on the number of employees.
+ * </p>
+ * Not thread-safe; {@link EmployeeAggregateIndex} guards every instance.
+ */
+class SalarySketch {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // Values below one (zero salaries) share a bucket that reports zero.
+    private static final int ZERO_BUCKET = Integer.MIN_VALUE;
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long count;
+
+    void add(int value) {
+        buckets.merge(bucket(value), 1L, Long::sum);
+        count++;
+    }
+
+    void remove(int value) {
+        int bucket = bucket(value);
+        Long n = buckets.get(bucket);
+        if (n == null) {
+            return;
+        }
+        if (n == 1) {
+            buckets.remove(bucket);
+        } else {
+            buckets.put(bucket, n - 1);
+        }
+        count--;
+    }
+
+    /**
+     * Returns the estimated value at quantile {@code q} (0 to 1), or {@code null} if the sketch is empty.
+     */
+    Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return value(bucket.getKey());
+            }
+        }
+        return value(buckets.lastKey());
+    }
+
+    private static int bucket(int value) {
+        return value < 1 ? ZERO_BUCKET : (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    private static double value(int bucket) {
+        return bucket == ZERO_BUCKET ? 0 : 2 * Math.pow(GAMMA, bucket) / (GAMMA + 1);
+    }
+}
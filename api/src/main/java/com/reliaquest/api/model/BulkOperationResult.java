@@ -0,0 +1,39 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * Outcome of one item of a bulk request; {@code index} is the item's position in the request body.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkOperationResult(int index, UUID id, Status status, String error) {
+
+    public static BulkOperationResult created(int index, UUID id) {
+        return new BulkOperationResult(index, id, Status.CREATED, null);
+    }
+
+    public static BulkOperationResult invalid(int index, String error) {
+        return new BulkOperationResult(index, null, Status.INVALID, error);
+    }
+
+    public static BulkOperationResult failed(int index, String error) {
+        return new BulkOperationResult(index, null, Status.FAILED, error);
+    }
+
+    public static BulkOperationResult deleted(int index, UUID id) {
+        return new BulkOperationResult(index, id, Status.DELETED, null);
+    }
+
+    public static BulkOperationResult notFound(int index, UUID id) {
+        return new BulkOperationResult(index, id, Status.NOT_FOUND, null);
+    }
+
+    public enum Status {
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID,
+        FAILED
+    }
+}
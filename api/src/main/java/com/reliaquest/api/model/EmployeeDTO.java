@@ -33,5 +33,6 @@ public class EmployeeDTO {
 
     @NotBlank(message = "Email must not be blank")
     @Email(message = "Email must be valid")
+    @Size(max = 255, message = "Email must not exceed 255 characters")
     private String email;
 }
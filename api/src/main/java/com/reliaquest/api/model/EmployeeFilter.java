@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+/**
+ * Range and title restrictions for analytical queries. Bounds are inclusive and {@code null} means unbounded;
+ * employees without a value for a bounded field never match.
+ */
+public record EmployeeFilter(Integer minAge, Integer maxAge, Integer minSalary, Integer maxSalary, String title) {
+
+    private static final EmployeeFilter ALL = new EmployeeFilter(null, null, null, null, null);
+
+    public static EmployeeFilter all() {
+        return ALL;
+    }
+
+    public boolean isAll() {
+        return equals(ALL);
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.model.entity.Employee;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated employee listing; {@code nextCursor} is {@code null} on the last page.
+ */
+public record EmployeePage(List<Employee> employees, String nextCursor) {}
@@ -1,13 +1,18 @@
 package com.reliaquest.api.model;
 
+import java.util.UUID;
 import lombok.*;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class EmployeeSearchCriteria {
 
     private String id;
     private String name;
+
+    // Keyset pagination: only rows with an id after afterId, at most limit of them, in id order.
+    private UUID afterId;
+    private Integer limit;
 }
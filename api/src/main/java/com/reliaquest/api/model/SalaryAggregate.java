@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+
+/**
+ * Salary statistics over a group of employees. {@code min}, {@code max} and {@code sum} are exact;
+ * {@code percentiles} (p50, p90, p95, p99) are estimates within 1% of an actual salary. Everything but
+ * {@code count} is omitted for an empty group.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SalaryAggregate(
+        long count, Long sum, Integer min, Integer max, Double average, Map<String, Integer> percentiles) {
+
+    public static SalaryAggregate empty() {
+        return new SalaryAggregate(0, null, null, null, null, null);
+    }
+}
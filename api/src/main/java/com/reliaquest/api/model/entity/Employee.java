@@ -1,14 +1,19 @@
 package com.reliaquest.api.model.entity;
 
+import com.reliaquest.api.cache.HibernateCacheConfiguration;
 import jakarta.persistence.*;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfiguration.EMPLOYEE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,19 +1,31 @@
 package com.reliaquest.api.model.repositorry;
 
+import com.reliaquest.api.cache.HibernateCacheConfiguration;
 import com.reliaquest.api.model.entity.Employee;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
     @Query("SELECT e.name FROM Employee e ORDER BY e.salary DESC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfiguration.EMPLOYEE_QUERY_REGION)
+    })
     List<String> findTop10EmployeesBySalary(Pageable pageable);
 
     @Query("SELECT MAX(e.salary) FROM Employee e")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfiguration.EMPLOYEE_QUERY_REGION)
+    })
     Integer findHighestSalary();
 }
@@ -0,0 +1,3 @@
+package com.reliaquest.api.model.upstream;
+
+public record UpstreamCreateEmployeeInput(String name, Integer salary, Integer age, String title) {}
@@ -0,0 +1,3 @@
+package com.reliaquest.api.model.upstream;
+
+public record UpstreamDeleteEmployeeInput(String name) {}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.model.upstream;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Employee as returned by the mock employee server, whose fields are prefixed with {@code employee_}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UpstreamEmployee {
+
+    private UUID id;
+
+    @JsonProperty("employee_name")
+    private String name;
+
+    @JsonProperty("employee_salary")
+    private Integer salary;
+
+    @JsonProperty("employee_age")
+    private Integer age;
+
+    @JsonProperty("employee_title")
+    private String title;
+
+    @JsonProperty("employee_email")
+    private String email;
+}
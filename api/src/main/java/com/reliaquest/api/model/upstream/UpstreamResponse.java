@@ -0,0 +1,9 @@
+package com.reliaquest.api.model.upstream;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Envelope the mock employee server wraps every payload in.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record UpstreamResponse<T>(T data, String status, String error) {}
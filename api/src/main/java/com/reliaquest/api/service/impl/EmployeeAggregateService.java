@@ -0,0 +1,67 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.index.ColumnarEmployeeSnapshot;
+import com.reliaquest.api.index.EmployeeAggregateIndex;
+import com.reliaquest.api.index.EmployeeIndexMaintainer;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.SalaryAggregate;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reporting aggregates served from memory, so consumers no longer need to download every employee to compute them.
+ * Unfiltered aggregates come from the {@link EmployeeAggregateIndex}; range-filtered ones and top earners are
+ * scanned from the {@link ColumnarEmployeeSnapshot}.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeAggregateService {
+
+    private final EmployeeDatabaseService employeeDao;
+    private final EmployeeIndexMaintainer employeeIndexes;
+    private final EmployeeAggregateIndex employeeAggregateIndex;
+    private final ColumnarEmployeeSnapshot columnarEmployeeSnapshot;
+
+    public SalaryAggregate getSalaryAggregate() {
+        return aggregates().salary();
+    }
+
+    public SalaryAggregate getSalaryAggregate(EmployeeFilter filter) {
+        return filter.isAll() ? getSalaryAggregate() : snapshot().salary(filter);
+    }
+
+    public List<String> getTopEarnerNames(int limit, EmployeeFilter filter) {
+        return snapshot().topNames(limit, filter);
+    }
+
+    public Map<String, SalaryAggregate> getSalaryAggregatesByTitle() {
+        return aggregates().salaryByTitle();
+    }
+
+    public Map<String, Long> getAgeHistogram() {
+        return aggregates().ageHistogram();
+    }
+
+    /*
+     * Until the indexes are loaded, the aggregates are computed from a single pass over the table.
+     */
+    private EmployeeAggregateIndex aggregates() {
+        if (employeeIndexes.isReady()) {
+            return employeeAggregateIndex;
+        }
+        EmployeeAggregateIndex scan = new EmployeeAggregateIndex();
+        employeeDao.forEachEmployee(scan::add);
+        return scan;
+    }
+
+    private ColumnarEmployeeSnapshot snapshot() {
+        if (employeeIndexes.isReady()) {
+            return columnarEmployeeSnapshot;
+        }
+        ColumnarEmployeeSnapshot scan = new ColumnarEmployeeSnapshot();
+        employeeDao.forEachEmployee(scan::add);
+        return scan;
+    }
+}
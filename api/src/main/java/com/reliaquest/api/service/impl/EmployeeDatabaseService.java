@@ -1,25 +1,50 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.cache.HibernateCacheConfiguration;
 import com.reliaquest.api.model.EmployeeSearchCriteria;
 import com.reliaquest.api.model.entity.Employee;
 import com.reliaquest.api.model.repositorry.EmployeeRepository;
 import com.reliaquest.api.util.EmployeeUtility;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.sql.PreparedStatement;
+import java.sql.Types;
 import java.util.*;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EmployeeDatabaseService {
 
+    private static final int SCROLL_FETCH_SIZE = 500;
+    private static final int READ_FETCH_SIZE = 500;
+    private static final int DELETE_CHUNK_SIZE = 500;
+
+    // H2's data change delta table: deletes the rows and returns them as they were, in one statement.
+    private static final String DELETE_RETURNING =
+            "SELECT id, name, salary, age, title, email FROM OLD TABLE (DELETE FROM users WHERE id IN (:ids))";
+
+    private static final String INSERT =
+            "INSERT INTO users (id, name, salary, age, title, email) VALUES (?, ?, ?, ?, ?, ?)";
+
     // For criteria builder.
     private final EntityManager entityManager;
 
@@ -30,15 +55,41 @@ public class EmployeeDatabaseService {
      * Searches for employees based on the given search criteria.
      * <p>
      * This method builds a dynamic JPA Criteria query using the provided
-     * {@link EmployeeSearchCriteria}.
+     * {@link EmployeeSearchCriteria}. When the criteria carry keyset bounds the
+     * result is ordered by id.
+     * <p>
+     * The employees are built straight from the selected columns, so they are detached: Hibernate keeps no managed
+     * copy or dirty-checking snapshot of them, and the persistence context does not grow with the result.
      * @param criteria the {@link EmployeeSearchCriteria} containing optional filters
      * @return a list of {@link Employee} objects matching the search criteria,
      *         or all employees if no criteria are specified
      */
+    @Transactional(readOnly = true)
     public List<Employee> searchEmployee(EmployeeSearchCriteria criteria) {
+        return searchEmployee(criteria, null);
+    }
+
+    /**
+     * Searches like {@link #searchEmployee(EmployeeSearchCriteria)}, but with the name filter already resolved.
+     * @param criteria the {@link EmployeeSearchCriteria} containing optional filters
+     * @param candidateIds ids known to match the name filter, for example from
+     *        {@link com.reliaquest.api.index.NameTrigramIndex}; when not {@code null} they replace the
+     *        {@code LIKE} predicate with a primary-key lookup
+     * @return a list of {@link Employee} objects matching the search criteria
+     */
+    @Transactional(readOnly = true)
+    public List<Employee> searchEmployee(EmployeeSearchCriteria criteria, Collection<UUID> candidateIds) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<Employee> cq = cb.createQuery(Employee.class);
         Root<Employee> employee = cq.from(Employee.class);
+        cq.select(cb.construct(
+                Employee.class,
+                employee.get("id"),
+                employee.get("name"),
+                employee.get("salary"),
+                employee.get("age"),
+                employee.get("title"),
+                employee.get("email")));
         List<Predicate> predicates = new ArrayList<>();
 
         if (criteria.getId() != null && !criteria.getId().isBlank()) {
@@ -48,16 +99,32 @@ public class EmployeeDatabaseService {
             }
         }
 
-        if (criteria.getName() != null && !criteria.getName().isBlank()) {
+        if (candidateIds != null) {
+            predicates.add(employee.get("id").in(candidateIds));
+        } else if (criteria.getName() != null && !criteria.getName().isBlank()) {
+            // Lowercased like NameTrigramIndex does, so both paths agree whatever the default locale.
             predicates.add(cb.like(
-                    cb.lower(employee.get("name")), "%" + criteria.getName().toLowerCase() + "%"));
+                    cb.lower(employee.get("name")), "%" + criteria.getName().toLowerCase(Locale.ROOT) + "%"));
+        }
+
+        if (criteria.getAfterId() != null) {
+            predicates.add(cb.greaterThan(employee.<UUID>get("id"), criteria.getAfterId()));
         }
 
         if (!predicates.isEmpty()) {
             cq.where(cb.and(predicates.toArray(new Predicate[0])));
         }
 
-        return entityManager.createQuery(cq).getResultList();
+        if (criteria.getAfterId() != null || criteria.getLimit() != null) {
+            // Keyset pages walk the primary key, so each page costs the same however deep it is.
+            cq.orderBy(cb.asc(employee.get("id")));
+        }
+        TypedQuery<Employee> query = entityManager.createQuery(cq);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, READ_FETCH_SIZE);
+        if (criteria.getLimit() != null) {
+            query.setMaxResults(criteria.getLimit());
+        }
+        return query.getResultList();
     }
 
     /*We can make this request pageable in order to get the highest salary of as
@@ -71,10 +138,72 @@ public class EmployeeDatabaseService {
         return employeeRepository.findHighestSalary();
     }
 
+    /**
+     * Streams every employee, in id order, through {@code action} in a read-only transaction.
+     * <p>
+     * Rows are read from a forward-only cursor as read-only entities, and the persistence context is cleared
+     * every {@value #SCROLL_FETCH_SIZE} rows, so memory use does not grow with the table. The scroll bypasses the
+     * second-level cache: putting every row there would evict the entries that id lookups hit.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public void forEachEmployee(Consumer<Employee> action) {
+        Session session = entityManager.unwrap(Session.class);
+        try (ScrollableResults<Employee> rows = session.createQuery("FROM Employee e ORDER BY e.id", Employee.class)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(SCROLL_FETCH_SIZE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            int count = 0;
+            while (rows.next()) {
+                action.accept(rows.get());
+                if (++count % SCROLL_FETCH_SIZE == 0) {
+                    session.clear();
+                }
+            }
+        }
+    }
+
+    @Transactional
     public void save(Employee employee) {
         entityManager.persist(employee);
     }
 
+    /**
+     * Persists all employees in one transaction. With {@code hibernate.jdbc.batch_size} set, the inserts are sent
+     * as JDBC batches when the transaction flushes instead of one round trip per row.
+     */
+    @Transactional
+    public void saveAll(List<Employee> employees) {
+        employees.forEach(entityManager::persist);
+    }
+
+    /**
+     * Inserts employees that already carry their id, such as copies of upstream employees, as one JDBC batch in
+     * the current transaction. Hibernate would assign new ids to them on persist, so the rows are written directly.
+     */
+    @Transactional
+    public void insertAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                for (Employee employee : employees) {
+                    insert.setObject(1, employee.getId());
+                    insert.setString(2, employee.getName());
+                    insert.setObject(3, employee.getSalary(), Types.INTEGER);
+                    insert.setObject(4, employee.getAge(), Types.INTEGER);
+                    insert.setString(5, employee.getTitle());
+                    insert.setString(6, employee.getEmail());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+        evictAfterCommit(employees.stream().map(Employee::getId).toList());
+    }
+
     public Optional<Employee> findById(UUID id) {
         return employeeRepository.findById(id);
     }
@@ -82,4 +211,82 @@ public class EmployeeDatabaseService {
     public void delete(Employee employee) {
         employeeRepository.delete(employee);
     }
+
+    /**
+     * Deletes an employee with a single statement, without loading it first.
+     * @return the employee as it was before the delete, or empty if there was none with that id
+     */
+    @Transactional
+    public Optional<Employee> deleteById(UUID id) {
+        return deleteReturning(List.of(id)).stream().findFirst();
+    }
+
+    /**
+     * Deletes all employees with the given ids in one transaction, one statement per {@value #DELETE_CHUNK_SIZE}
+     * ids.
+     * @return the employees that existed and were deleted, as they were before the delete
+     */
+    @Transactional
+    public List<Employee> deleteAllById(Collection<UUID> ids) {
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        List<Employee> deleted = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += DELETE_CHUNK_SIZE) {
+            int to = Math.min(from + DELETE_CHUNK_SIZE, distinct.size());
+            deleted.addAll(deleteReturning(distinct.subList(from, to)));
+        }
+        return deleted;
+    }
+
+    private List<Employee> deleteReturning(List<UUID> ids) {
+        List<Object[]> rows = entityManager
+                .unwrap(Session.class)
+                .createNativeQuery(DELETE_RETURNING, Object[].class)
+                .addScalar("id", UUID.class)
+                .addScalar("name", String.class)
+                .addScalar("salary", Integer.class)
+                .addScalar("age", Integer.class)
+                .addScalar("title", String.class)
+                .addScalar("email", String.class)
+                .setParameterList("ids", ids)
+                .getResultList();
+        List<Employee> deleted = rows.stream()
+                .map(row -> Employee.builder()
+                        .id((UUID) row[0])
+                        .name((String) row[1])
+                        .salary((Integer) row[2])
+                        .age((Integer) row[3])
+                        .title((String) row[4])
+                        .email((String) row[5])
+                        .build())
+                .toList();
+        evictAfterCommit(deleted.stream().map(Employee::getId).toList());
+        return deleted;
+    }
+
+    /*
+     * Hibernate does not see native deletes and inserts, so the second-level cache has to be told. Evicting again
+     * after the commit drops anything a concurrent reader cached from the old rows in the meantime.
+     */
+    private void evictAfterCommit(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Runnable evict = () -> {
+            ids.forEach(id -> entityManager.getEntityManagerFactory().getCache().evict(Employee.class, id));
+            entityManager
+                    .getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getCache()
+                    .evictQueryRegion(HibernateCacheConfiguration.EMPLOYEE_QUERY_REGION);
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
 }
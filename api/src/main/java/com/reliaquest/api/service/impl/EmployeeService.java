@@ -1,39 +1,163 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.cache.EmployeeQueryCache;
+import com.reliaquest.api.cache.RequestCoalescer;
+import com.reliaquest.api.event.EmployeeChangedEvent;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.index.EmployeeIndexMaintainer;
+import com.reliaquest.api.index.NameTrigramIndex;
+import com.reliaquest.api.index.SalaryIndex;
 import com.reliaquest.api.mapper.EmployeeDtoToEmployeeEntityMapper;
+import com.reliaquest.api.model.BulkOperationResult;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.EmployeeSearchCriteria;
 import com.reliaquest.api.model.entity.Employee;
 import com.reliaquest.api.service.IEmployeeService;
 import com.reliaquest.api.util.EmployeeUtility;
+import com.reliaquest.api.util.PageCursor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class EmployeeService implements IEmployeeService {
 
+    private static final int BULK_CHUNK_SIZE = 500;
+
+    private enum CoalescedQuery {
+        HIGHEST_SALARY,
+        TOP_TEN_NAMES
+    }
+
     private final EmployeeDatabaseService employeeDao;
+    private final EmployeeWriteBehind employeeWriteBehind;
     private final EmployeeDtoToEmployeeEntityMapper employeeDtoToEmployeeEntityMapper;
+    private final EmployeeQueryCache employeeQueryCache;
+    private final RequestCoalescer requestCoalescer;
+    private final EmployeeIndexMaintainer employeeIndexes;
+    private final SalaryIndex salaryIndex;
+    private final NameTrigramIndex nameTrigramIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     @Override
     public List<Employee> searchEmployee(EmployeeSearchCriteria criteria) {
+        return employeeQueryCache.search(criteria, this::coalesceLoad);
+    }
+
+    /**
+     * Looks up an employee by primary key.
+     * <p>
+     * The lookup goes through {@link EmployeeDatabaseService#findById(UUID)}, so it is served from the Hibernate
+     * second-level cache when the employee is there. Concurrent lookups of the same id share one load.
+     * </p>
+     * @param id the employee ID as a string (expected to be a valid UUID)
+     * @return the employee
+     * @throws IllegalArgumentException if the id is not a valid UUID
+     * @throws EmployeeNotFoundException if no employee has that id
+     */
+    public Employee getEmployeeById(String id) {
+        UUID employeeId = EmployeeUtility.covertStringToUuid(id);
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Invalid employee ID: " + id);
+        }
+        return requestCoalescer
+                .execute(employeeId, () -> employeeDao.findById(employeeId))
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
+    }
+
+    /**
+     * Returns one keyset page of the employees matching {@code criteria}.
+     * <p>
+     * The page starts after the row identified by {@code cursor}, or at the beginning when it is {@code null},
+     * and holds at most {@code limit} employees in id order.
+     * </p>
+     * @param criteria the filters of the search being paged through
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param limit the page size
+     * @return the page and, if more rows follow, the cursor for the next one
+     */
+    public EmployeePage searchEmployeePage(EmployeeSearchCriteria criteria, String cursor, int limit) {
+        String scope = pageScope(criteria);
+        EmployeeSearchCriteria pageCriteria = criteria.toBuilder()
+                .afterId(PageCursor.decode(cursor, scope))
+                .limit(limit + 1)
+                .build();
+
+        // One extra row tells whether another page follows without a separate count.
+        List<Employee> rows = searchEmployee(pageCriteria);
+        if (rows.size() <= limit) {
+            return new EmployeePage(rows, null);
+        }
+        List<Employee> page = rows.subList(0, limit);
+        return new EmployeePage(page, PageCursor.encode(page.get(limit - 1).getId(), scope));
+    }
+
+    private static String pageScope(EmployeeSearchCriteria criteria) {
+        return Objects.toString(criteria.getId(), "") + "/" + Objects.toString(criteria.getName(), "");
+    }
+
+    /*
+     * Cache misses for the same criteria, such as a burst of lookups of one id, share a single database query.
+     */
+    private List<Employee> coalesceLoad(EmployeeSearchCriteria criteria) {
+        return requestCoalescer.execute(criteria.toBuilder().build(), () -> loadEmployees(criteria));
+    }
+
+    /*
+     * Name searches are resolved through the trigram index when it can narrow them down, so the database only
+     * looks up matching ids instead of running LIKE '%x%' over every row.
+     */
+    private List<Employee> loadEmployees(EmployeeSearchCriteria criteria) {
+        if (employeeIndexes.isReady() && criteria.getName() != null && !criteria.getName().isBlank()) {
+            Optional<Set<UUID>> candidates = nameTrigramIndex.search(criteria.getName());
+            if (candidates.isPresent()) {
+                return candidates.get().isEmpty()
+                        ? List.of()
+                        : employeeDao.searchEmployee(criteria, candidates.get());
+            }
+        }
         return employeeDao.searchEmployee(criteria);
     }
 
+    /**
+     * Hands every employee to {@code action} straight from a database cursor, without collecting them into a
+     * list or caching them.
+     */
+    public void forEachEmployee(Consumer<Employee> action) {
+        employeeDao.forEachEmployee(action);
+    }
+
+    /**
+     * Returns the names of the ten highest earners, read from the {@link SalaryIndex} once it is loaded and from
+     * the database before that.
+     */
     @Override
     public List<String> searchHighestSalaryEmployeeName() {
-        return employeeDao.findTop10EmployeesBySalary();
+        if (employeeIndexes.isReady()) {
+            return salaryIndex.topNames(10);
+        }
+        return employeeQueryCache.topTenNames(
+                () -> requestCoalescer.execute(CoalescedQuery.TOP_TEN_NAMES, employeeDao::findTop10EmployeesBySalary));
     }
 
     @Override
     public Integer getHighestSalary() {
-        return Optional.ofNullable(employeeDao.findHighestSalary()).orElse(0);
+        if (employeeIndexes.isReady()) {
+            return salaryIndex.highestSalary().orElse(0);
+        }
+        return Optional.ofNullable(employeeQueryCache.highestSalary(
+                        () -> requestCoalescer.execute(CoalescedQuery.HIGHEST_SALARY, employeeDao::findHighestSalary)))
+                .orElse(0);
     }
 
     /**
@@ -43,37 +167,98 @@ public class EmployeeService implements IEmployeeService {
      * entity using {@link EmployeeDtoToEmployeeEntityMapper}, persists it to the
      * database, and returns the saved entity.
      * </p>
+     * <p>
+     * With group commit enabled the employee is handed to {@link EmployeeWriteBehind}, which inserts it together
+     * with other concurrent creates; this call still returns only once it is committed.
+     * </p>
      * @param employeeInput the employee details provided as a {@link EmployeeDTO}
      * @return the persisted {@link Employee} entity with any generated fields
      *         (such as ID) populated
+     * @throws com.reliaquest.api.exception.WriteBufferFullException if group commit is enabled and too many creates
+     *         are already waiting
      */
     @Override
-    @Transactional
     public Employee createEmployee(EmployeeDTO employeeInput) {
         Employee employee = employeeDtoToEmployeeEntityMapper.mapEmployeeDtoToEmployee(employeeInput);
+        if (employeeWriteBehind.isEnabled()) {
+            return employeeWriteBehind.create(employee);
+        }
         employeeDao.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(employee));
         return employee;
     }
 
+    /**
+     * Creates many employees at once.
+     * <p>
+     * Every input is validated on its own; valid inputs are mapped with
+     * {@link EmployeeDtoToEmployeeEntityMapper} and inserted in transactions of {@value #BULK_CHUNK_SIZE}
+     * using JDBC batching. A chunk that fails to commit marks all of its items as failed without affecting the
+     * other chunks.
+     * </p>
+     * @param employeeInputs the employees to create
+     * @return one result per input, in input order
+     */
+    public List<BulkOperationResult> createEmployees(List<EmployeeDTO> employeeInputs) {
+        BulkOperationResult[] results = new BulkOperationResult[employeeInputs.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < employeeInputs.size(); i++) {
+            String violations = validate(employeeInputs.get(i));
+            if (violations == null) {
+                valid.add(i);
+            } else {
+                results[i] = BulkOperationResult.invalid(i, violations);
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + BULK_CHUNK_SIZE, valid.size()));
+            List<Employee> employees = chunk.stream()
+                    .map(i -> employeeDtoToEmployeeEntityMapper.mapEmployeeDtoToEmployee(employeeInputs.get(i)))
+                    .toList();
+            try {
+                employeeDao.saveAll(employees);
+            } catch (RuntimeException e) {
+                log.error("Bulk create of {} employees failed: {}", employees.size(), e.getMessage());
+                chunk.forEach(i -> results[i] = BulkOperationResult.failed(i, e.getMessage()));
+                continue;
+            }
+            for (int j = 0; j < chunk.size(); j++) {
+                Employee employee = employees.get(j);
+                results[chunk.get(j)] = BulkOperationResult.created(chunk.get(j), employee.getId());
+                eventPublisher.publishEvent(EmployeeChangedEvent.created(employee));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private String validate(EmployeeDTO employeeInput) {
+        if (employeeInput == null) {
+            return "Employee must not be null";
+        }
+        Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(employeeInput);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
     /**
      * Deletes an employee by their identifier.
      * <p>
      * This method attempts to convert the provided employee ID string into a {@link UUID}.
      * If the ID is valid and an employee with that ID exists, the employee record is
-     * deleted from the database and the employee's name is returned.
+     * deleted from the database and the employee's name is returned. The delete and the
+     * lookup of the name are a single statement; the employee is not loaded first.
      * </p>
      *
-     * <p>
-     * If the employee ID is invalid, no employee is found, or an exception occurs during
-     * the operation, the method will return an empty string.
-     * </p>
-     *
-     * <p><b>Error Handling:</b> Any exceptions are logged, but not propagated, to ensure
-     * that the service continues running without interruption.</p>
-     *
      * @param id the employee ID as a string (expected to be a valid UUID)
-     * @return the name of the deleted employee if successful, or an empty string if
-     *         the employee does not exist, the ID is invalid, or an error occurs
+     * @return the name of the deleted employee
+     * @throws IllegalArgumentException if the id is not a valid UUID
+     * @throws EmployeeNotFoundException if no employee has that id
      */
     @Override
     public String deleteEmployee(String id) {
@@ -83,11 +268,55 @@ public class EmployeeService implements IEmployeeService {
         }
 
         return employeeDao
-                .findById(employeeId)
+                .deleteById(employeeId)
                 .map(employee -> {
-                    employeeDao.delete(employee);
+                    eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee));
                     return employee.getName();
                 })
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
     }
+
+    /**
+     * Deletes many employees in one transaction and reports the outcome of each id.
+     * <p>
+     * Ids that are not valid UUIDs are reported as invalid and skipped. The rest are deleted through
+     * {@link EmployeeDatabaseService#deleteAllById(Collection)}; if that fails, every one of them is reported as
+     * failed and none is deleted. An id that is repeated is only deleted once, and its later occurrences are
+     * reported as not found.
+     * </p>
+     * @param ids the employee ids to delete
+     * @return one result per id, in input order
+     */
+    public List<BulkOperationResult> deleteEmployees(List<String> ids) {
+        BulkOperationResult[] results = new BulkOperationResult[ids.size()];
+        Map<Integer, UUID> valid = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            UUID employeeId = EmployeeUtility.covertStringToUuid(ids.get(i));
+            if (employeeId == null) {
+                results[i] = BulkOperationResult.invalid(i, "Invalid employee ID: " + ids.get(i));
+            } else {
+                valid.put(i, employeeId);
+            }
+        }
+
+        Map<UUID, Employee> deleted = new HashMap<>();
+        try {
+            employeeDao.deleteAllById(valid.values()).forEach(employee -> deleted.put(employee.getId(), employee));
+        } catch (RuntimeException e) {
+            log.error("Bulk delete of {} employees failed: {}", valid.size(), e.getMessage());
+            valid.keySet().forEach(i -> results[i] = BulkOperationResult.failed(i, e.getMessage()));
+            return Arrays.asList(results);
+        }
+
+        valid.forEach((i, employeeId) -> {
+            Employee employee = deleted.remove(employeeId);
+            if (employee == null) {
+                results[i] = BulkOperationResult.notFound(i, employeeId);
+            } else {
+                results[i] = BulkOperationResult.deleted(i, employeeId);
+                eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee));
+            }
+        });
+        return Arrays.asList(results);
+    }
 }
@@ -0,0 +1,213 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.exception.WriteBufferFullException;
+import com.reliaquest.api.model.entity.Employee;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Group commit for single creates, used when {@code employee.write-mode} is {@code group-commit}.
+ * <p>
+ * Callers put their employee into a bounded buffer and wait. One writer thread takes whatever has accumulated, up
+ * to {@code max-group-size} employees, and inserts it with {@link EmployeeDatabaseService#saveAll} in a single
+ * transaction; once that commits, it publishes an {@link EmployeeChangedEvent} per employee and releases the
+ * callers. While one group commits the next one fills up, so the number of transactions grows with the number of
+ * bursts rather than the number of requests. A group that fails to commit is retried in halves, so only the creates
+ * that fail on their own are reported as failed.
+ * </p>
+ * <p>
+ * When the buffer is full a caller waits up to {@code enqueue-timeout} for room and then gets a
+ * {@link WriteBufferFullException}. On shutdown the writer commits what is left in the buffer before stopping.
+ * {@code employee.write-behind.queue.depth} reports the buffered creates and {@code employee.write-behind.group.size}
+ * the size of each committed group.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EmployeeWriteBehind implements DisposableBean {
+
+    private static final String DIRECT = "direct";
+    private static final String GROUP_COMMIT = "group-commit";
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private record Pending(Employee employee, CompletableFuture<Employee> committed) {}
+
+    private final EmployeeDatabaseService employeeDao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int maxGroupSize;
+    private final Duration enqueueTimeout;
+    private final BlockingQueue<Pending> buffer;
+    private final DistributionSummary groupSizes;
+    private final Thread writer;
+
+    private volatile boolean closed;
+
+    public EmployeeWriteBehind(
+            EmployeeDatabaseService employeeDao,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${employee.write-mode:direct}") String writeMode,
+            @Value("${employee.write-behind.capacity:10000}") int capacity,
+            @Value("${employee.write-behind.max-group-size:500}") int maxGroupSize,
+            @Value("${employee.write-behind.enqueue-timeout:100ms}") Duration enqueueTimeout) {
+        if (!DIRECT.equals(writeMode) && !GROUP_COMMIT.equals(writeMode)) {
+            throw new IllegalArgumentException("employee.write-mode must be " + DIRECT + " or " + GROUP_COMMIT
+                    + ", was " + writeMode);
+        }
+        if (capacity < 1 || maxGroupSize < 1) {
+            throw new IllegalArgumentException("Write-behind capacity and max group size must be positive");
+        }
+        this.employeeDao = employeeDao;
+        this.eventPublisher = eventPublisher;
+        this.enabled = GROUP_COMMIT.equals(writeMode);
+        this.maxGroupSize = maxGroupSize;
+        this.enqueueTimeout = enqueueTimeout;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.groupSizes = DistributionSummary.builder("employee.write-behind.group.size")
+                .description("Creates committed together in one transaction")
+                .register(meterRegistry);
+        Gauge.builder("employee.write-behind.queue.depth", buffer, BlockingQueue::size)
+                .description("Creates waiting for the next group commit")
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::run, "employee-group-commit");
+        writer.setDaemon(true);
+        if (enabled) {
+            writer.start();
+            log.info("Group commit enabled: buffer of {}, groups of up to {}", capacity, maxGroupSize);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues {@code employee} for the next group commit and waits for that commit.
+     *
+     * @return the persisted employee, with its generated id
+     * @throws WriteBufferFullException if the buffer stayed full for the enqueue timeout
+     */
+    public Employee create(Employee employee) {
+        try {
+            return submit(employee).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Queues {@code employee} for the next group commit.
+     *
+     * @return a future completed with the employee once its group has committed
+     * @throws WriteBufferFullException if the buffer stayed full for the enqueue timeout
+     */
+    public CompletableFuture<Employee> submit(Employee employee) {
+        if (!enabled || closed) {
+            throw new IllegalStateException("Group commit is not running");
+        }
+        Pending pending = new Pending(employee, new CompletableFuture<>());
+        try {
+            if (!buffer.offer(pending, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new WriteBufferFullException(
+                        "Too many pending creates, " + buffer.size() + " are waiting to be written", enqueueTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a create", e);
+        }
+        // Lost a race with destroy(): take the create back unless the writer or destroy() already has it.
+        if (closed && buffer.remove(pending)) {
+            throw new IllegalStateException("Group commit is not running");
+        }
+        return pending.committed();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        closed = true;
+        if (!enabled) {
+            return;
+        }
+        writer.join();
+        List<Pending> abandoned = new ArrayList<>();
+        buffer.drainTo(abandoned);
+        abandoned.forEach(p -> p.committed().completeExceptionally(new IllegalStateException("Shut down")));
+    }
+
+    private void run() {
+        List<Pending> group = new ArrayList<>(maxGroupSize);
+        while (!closed || !buffer.isEmpty()) {
+            try {
+                Pending first = buffer.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                buffer.drainTo(group, maxGroupSize - 1);
+                commit(group);
+            } catch (InterruptedException e) {
+                log.warn("Group commit writer interrupted with {} creates buffered", buffer.size());
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    /*
+     * A group that fails is split in half and each half committed on its own, down to single creates, so one bad row
+     * fails only its own caller and costs about two transactions per halving rather than one per member.
+     */
+    private void commit(List<Pending> group) {
+        List<Employee> employees = new ArrayList<>(group.size());
+        group.forEach(p -> employees.add(p.employee()));
+        try {
+            employeeDao.saveAll(employees);
+        } catch (RuntimeException | Error e) {
+            // persist assigned ids before the rollback; persisting again would treat the employees as detached.
+            employees.forEach(employee -> employee.setId(null));
+            if (group.size() == 1) {
+                log.warn("Create of employee {} failed: {}", employees.get(0).getName(), e.getMessage());
+                group.get(0).committed().completeExceptionally(e);
+                return;
+            }
+            log.warn("Group commit of {} employees failed, retrying in halves: {}", group.size(), e.getMessage());
+            int half = group.size() / 2;
+            commit(group.subList(0, half));
+            commit(group.subList(half, group.size()));
+            return;
+        }
+        groupSizes.record(group.size());
+        for (Pending pending : group) {
+            try {
+                eventPublisher.publishEvent(EmployeeChangedEvent.created(pending.employee()));
+            } catch (RuntimeException e) {
+                log.warn("Listener failed for created employee {}: {}", pending.employee().getId(), e.getMessage());
+            }
+            pending.committed().complete(pending.employee());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.reliaquest.api.sync;
+
+import com.reliaquest.api.client.MockEmployeeClient;
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.model.entity.Employee;
+import com.reliaquest.api.model.upstream.UpstreamEmployee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copies the mock server's employee list into the {@code users} table, applying only what changed.
+ * <p>
+ * A cycle streams the upstream list into a staging table in batches of {@code batch-size}, with a content hash per
+ * employee, in one rate-limited request. Rows an earlier cycle copied whose employee is gone upstream or whose hash
+ * differs are then deleted, and upstream employees without a row are inserted, both in transactions of
+ * {@code batch-size} rows. Each applied batch publishes an {@link EmployeeChangedEvent} per employee, so caches and
+ * indexes follow along. Memory use is bounded by the batch size rather than the size of the list.
+ * </p>
+ * <p>
+ * Every batch commits together with its record in {@code users_sync_state}, so a cycle that fails or is cut short
+ * leaves a consistent table and the next cycle carries on from there. An empty upstream list is treated as a
+ * failure instead of a reason to delete every copied row.
+ * </p>
+ * <p>
+ * Cycles run every {@code employee.sync.interval} when {@code employee.sync.enabled} is set, and on demand through
+ * {@link #trigger()}. {@code employee.sync.rows} counts applied rows by {@code change}, {@code employee.sync.duration}
+ * times cycles by {@code outcome}, and {@code employee.sync.since.success} is the age of the last successful cycle.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EmployeeSync implements DisposableBean {
+
+    private final MockEmployeeClient mockEmployeeClient;
+    private final EmployeeSyncStore syncStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration interval;
+    private final Duration initialDelay;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter insertedRows;
+    private final Counter deletedRows;
+
+    private volatile EmployeeSyncStatus status;
+
+    public EmployeeSync(
+            MockEmployeeClient mockEmployeeClient,
+            EmployeeSyncStore syncStore,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${employee.sync.enabled:false}") boolean enabled,
+            @Value("${employee.sync.interval:5m}") Duration interval,
+            @Value("${employee.sync.initial-delay:30s}") Duration initialDelay,
+            @Value("${employee.sync.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("employee.sync.batch-size must be positive, was " + batchSize);
+        }
+        this.mockEmployeeClient = mockEmployeeClient;
+        this.syncStore = syncStore;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.initialDelay = initialDelay;
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.status = EmployeeSyncStatus.builder().enabled(enabled).build();
+        this.insertedRows = Counter.builder("employee.sync.rows")
+                .tag("change", "inserted")
+                .description("Upstream employees copied into the table")
+                .register(meterRegistry);
+        this.deletedRows = Counter.builder("employee.sync.rows")
+                .tag("change", "deleted")
+                .description("Copied employees deleted because upstream removed or changed them")
+                .register(meterRegistry);
+        Gauge.builder("employee.sync.since.success", this, EmployeeSync::secondsSinceSuccess)
+                .description("Seconds since the last successful sync cycle")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        executor.scheduleWithFixedDelay(
+                this::sync, initialDelay.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Employee sync scheduled every {} after {}", interval, initialDelay);
+    }
+
+    public EmployeeSyncStatus status() {
+        return status;
+    }
+
+    /**
+     * Starts a cycle in the background unless one is running already.
+     * @return {@code true} if a cycle was started
+     */
+    public boolean trigger() {
+        // Claim the cycle here rather than in the executor, so two triggers cannot both be accepted.
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(this::runClaimed);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs one cycle in the calling thread; returns at once if another cycle is running.
+     * @return the status after the cycle
+     */
+    public EmployeeSyncStatus sync() {
+        if (!running.compareAndSet(false, true)) {
+            return status;
+        }
+        return runClaimed();
+    }
+
+    // Runs a cycle whose claim on running the caller already holds, and releases it.
+    private EmployeeSyncStatus runClaimed() {
+        Instant started = Instant.now();
+        status = status.toBuilder()
+                .running(true)
+                .lastStartedAt(started)
+                .fetched(0)
+                .inserted(0)
+                .deleted(0)
+                .build();
+        Cycle cycle = new Cycle();
+        long start = System.nanoTime();
+        try {
+            syncStore.clearStaging();
+            stage(cycle);
+            if (cycle.fetched == 0) {
+                throw new IllegalStateException("Upstream returned no employees, keeping the current copy");
+            }
+            applyDeletes(cycle);
+            applyInserts(cycle);
+            syncStore.clearStaging();
+
+            Instant finished = Instant.now();
+            status = finish(cycle, finished).lastSucceededAt(finished).lastError(null).build();
+            record("success", start);
+            log.info(
+                    "Synced {} upstream employees: {} inserted, {} deleted in {} ms",
+                    cycle.fetched,
+                    cycle.inserted,
+                    cycle.deleted,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            status = finish(cycle, Instant.now()).lastError(e.getMessage()).build();
+            record("failure", start);
+            log.warn(
+                    "Employee sync failed after {} fetched, {} inserted, {} deleted: {}",
+                    cycle.fetched,
+                    cycle.inserted,
+                    cycle.deleted,
+                    e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        return status;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void stage(Cycle cycle) {
+        List<UpstreamEmployee> batch = new ArrayList<>(batchSize);
+        cycle.fetched = mockEmployeeClient.forEachEmployee(employee -> {
+            batch.add(employee);
+            if (batch.size() == batchSize) {
+                syncStore.stage(batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            syncStore.stage(batch);
+        }
+    }
+
+    // Deleted rows leave the stale set, so each query returns the next batch until none are left.
+    private void applyDeletes(Cycle cycle) {
+        for (List<UUID> stale = syncStore.findStale(batchSize);
+                !stale.isEmpty();
+                stale = syncStore.findStale(batchSize)) {
+            List<Employee> deleted = syncStore.delete(stale);
+            deleted.forEach(employee -> eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee)));
+            cycle.deleted += deleted.size();
+            deletedRows.increment(deleted.size());
+        }
+    }
+
+    private void applyInserts(Cycle cycle) {
+        UUID after = null;
+        for (List<EmployeeSyncStore.StagedEmployee> missing = syncStore.findMissing(null, batchSize);
+                !missing.isEmpty();
+                missing = syncStore.findMissing(after, batchSize)) {
+            syncStore.insert(missing);
+            missing.forEach(staged -> eventPublisher.publishEvent(EmployeeChangedEvent.created(staged.employee())));
+            cycle.inserted += missing.size();
+            insertedRows.increment(missing.size());
+            after = missing.get(missing.size() - 1).employee().getId();
+        }
+    }
+
+    private EmployeeSyncStatus.EmployeeSyncStatusBuilder finish(Cycle cycle, Instant finished) {
+        return status.toBuilder()
+                .running(false)
+                .lastFinishedAt(finished)
+                .fetched(cycle.fetched)
+                .inserted(cycle.inserted)
+                .deleted(cycle.deleted);
+    }
+
+    private void record(String outcome, long start) {
+        Timer.builder("employee.sync.duration")
+                .tag("outcome", outcome)
+                .description("Duration of sync cycles")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private double secondsSinceSuccess() {
+        Instant succeeded = status.lastSucceededAt();
+        return succeeded == null ? Double.NaN : Duration.between(succeeded, Instant.now()).toMillis() / 1000.0;
+    }
+
+    private static final class Cycle {
+        long fetched;
+        long inserted;
+        long deleted;
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.sync;
+
+import java.time.Instant;
+import lombok.Builder;
+
+/**
+ * What {@link EmployeeSync} is doing and how its last cycle went; the counts are those of the last cycle.
+ */
+@Builder(toBuilder = true)
+public record EmployeeSyncStatus(
+        boolean enabled,
+        boolean running,
+        Instant lastStartedAt,
+        Instant lastFinishedAt,
+        Instant lastSucceededAt,
+        long fetched,
+        long inserted,
+        long deleted,
+        String lastError) {}
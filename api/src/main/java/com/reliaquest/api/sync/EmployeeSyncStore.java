@@ -0,0 +1,180 @@
+package com.reliaquest.api.sync;
+
+import com.reliaquest.api.model.entity.Employee;
+import com.reliaquest.api.model.upstream.UpstreamEmployee;
+import com.reliaquest.api.service.impl.EmployeeDatabaseService;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * SQL behind {@link EmployeeSync}: the staging table for one cycle's upstream list, the diff against what earlier
+ * cycles copied, and the batched writes that apply it.
+ * <p>
+ * {@code users_sync_state} records the content hash of every row the sync inserted, so rows created through the
+ * api are left alone and an upstream employee counts as unchanged without comparing its columns.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeSyncStore {
+
+    public record StagedEmployee(Employee employee, long contentHash) {}
+
+    private static final String STAGE = "MERGE INTO users_sync_staging (id, name, salary, age, title, email, "
+            + "content_hash) KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String RECORD_STATE = "MERGE INTO users_sync_state (id, content_hash) KEY (id) VALUES (?, ?)";
+
+    // Copied rows that upstream no longer has, or has with different content.
+    private static final String STALE = "SELECT t.id FROM users_sync_state t WHERE NOT EXISTS (SELECT 1 FROM "
+            + "users_sync_staging s WHERE s.id = t.id AND s.content_hash = t.content_hash)";
+
+    // Upstream employees without a row, in id order so the caller can page through them by keyset.
+    private static final String MISSING = "SELECT s.id, s.name, s.salary, s.age, s.title, s.email, s.content_hash "
+            + "FROM users_sync_staging s WHERE NOT EXISTS (SELECT 1 FROM users u WHERE u.id = s.id)";
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final EntityManager entityManager;
+    private final EmployeeDatabaseService employeeDao;
+
+    @Transactional
+    public void clearStaging() {
+        entityManager.createNativeQuery("DELETE FROM users_sync_staging").executeUpdate();
+    }
+
+    /**
+     * Adds a batch of upstream employees to the staging table as one JDBC batch. An id seen twice keeps its last
+     * content; employees without an id are skipped.
+     */
+    @Transactional
+    public void stage(List<UpstreamEmployee> employees) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement stage = connection.prepareStatement(STAGE)) {
+                for (UpstreamEmployee employee : employees) {
+                    if (employee.getId() == null) {
+                        continue;
+                    }
+                    stage.setObject(1, employee.getId());
+                    stage.setString(2, employee.getName());
+                    stage.setObject(3, employee.getSalary(), Types.INTEGER);
+                    stage.setObject(4, employee.getAge(), Types.INTEGER);
+                    stage.setString(5, employee.getTitle());
+                    stage.setString(6, employee.getEmail());
+                    stage.setLong(7, contentHash(employee));
+                    stage.addBatch();
+                }
+                stage.executeBatch();
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findStale(int limit) {
+        return entityManager
+                .unwrap(Session.class)
+                .createNativeQuery(STALE, UUID.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Returns up to {@code limit} staged employees that have no row, with ids greater than {@code after} when it
+     * is given.
+     */
+    @Transactional(readOnly = true)
+    public List<StagedEmployee> findMissing(UUID after, int limit) {
+        NativeQuery<Object[]> query = entityManager
+                .unwrap(Session.class)
+                .createNativeQuery(
+                        MISSING + (after == null ? "" : " AND s.id > :after") + " ORDER BY s.id", Object[].class)
+                .addScalar("id", UUID.class)
+                .addScalar("name", String.class)
+                .addScalar("salary", Integer.class)
+                .addScalar("age", Integer.class)
+                .addScalar("title", String.class)
+                .addScalar("email", String.class)
+                .addScalar("content_hash", Long.class);
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        return query.setMaxResults(limit).getResultList().stream()
+                .map(row -> new StagedEmployee(
+                        Employee.builder()
+                                .id((UUID) row[0])
+                                .name((String) row[1])
+                                .salary((Integer) row[2])
+                                .age((Integer) row[3])
+                                .title((String) row[4])
+                                .email((String) row[5])
+                                .build(),
+                        (Long) row[6]))
+                .toList();
+    }
+
+    /**
+     * Deletes copied rows and forgets them, in one transaction.
+     * @return the employees that still had a row, as they were before the delete
+     */
+    @Transactional
+    public List<Employee> delete(List<UUID> ids) {
+        List<Employee> deleted = employeeDao.deleteAllById(ids);
+        entityManager
+                .createNativeQuery("DELETE FROM users_sync_state WHERE id IN (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return deleted;
+    }
+
+    /**
+     * Inserts staged employees and records their content hashes, in one transaction.
+     */
+    @Transactional
+    public void insert(List<StagedEmployee> employees) {
+        employeeDao.insertAll(employees.stream().map(StagedEmployee::employee).toList());
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement record = connection.prepareStatement(RECORD_STATE)) {
+                for (StagedEmployee staged : employees) {
+                    record.setObject(1, staged.employee().getId());
+                    record.setLong(2, staged.contentHash());
+                    record.addBatch();
+                }
+                record.executeBatch();
+            }
+        });
+    }
+
+    /*
+     * 64-bit FNV-1a over every field, with a separator after each one and a marker for nulls, so that neither
+     * moving text between fields nor a null and an empty string hash alike.
+     */
+    static long contentHash(UpstreamEmployee employee) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, employee.getName());
+        hash = mix(hash, employee.getSalary() == null ? null : employee.getSalary().toString());
+        hash = mix(hash, employee.getAge() == null ? null : employee.getAge().toString());
+        hash = mix(hash, employee.getTitle());
+        return mix(hash, employee.getEmail());
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xFFFF) * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+        }
+        return (hash ^ 0xFFFE) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token for keyset pagination.
+ * <p>
+ * The token carries the id of the last row on the previous page and a fingerprint of the search it belongs to,
+ * so it cannot be replayed against a different search. The fingerprint is a truncated SHA-256 digest; a 32-bit
+ * hash code would let a cursor pass for a search whose scope happens to collide with its own.
+ * </p>
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final int FINGERPRINT_BYTES = 16;
+
+    private PageCursor() {}
+
+    public static String encode(UUID lastId, String scope) {
+        String raw = lastId + SEPARATOR + fingerprint(scope);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the id to continue after, or {@code null} for the first page
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for a different search
+     */
+    public static UUID decode(String cursor, String scope) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator > 0 && raw.substring(separator + 1).equals(fingerprint(scope))) {
+                return UUID.fromString(raw.substring(0, separator));
+            }
+        } catch (IllegalArgumentException e) {
+            // Fall through to the generic error below.
+        }
+        throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+    }
+
+    private static String fingerprint(String scope) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((scope == null ? "" : scope).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, FINGERPRINT_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
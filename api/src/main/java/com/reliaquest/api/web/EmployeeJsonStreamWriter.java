@@ -0,0 +1,83 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.reliaquest.api.model.entity.Employee;
+import com.reliaquest.api.service.impl.EmployeeService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes every employee to a response as it is read from the database cursor, so an export needs the same
+ * memory whether the table holds ten rows or ten million.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeJsonStreamWriter {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final ObjectMapper objectMapper;
+    private final EmployeeService employeeService;
+
+    @Getter
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        NDJSON(MediaType.APPLICATION_NDJSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public static Format from(String value) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unsupported stream format: " + value));
+        }
+    }
+
+    /**
+     * Writes all employees to {@code out} as one JSON array or as newline-delimited JSON, flushing every
+     * {@value #FLUSH_EVERY} rows. The stream itself is left open.
+     */
+    public void writeAll(OutputStream out, Format format) throws IOException {
+        ObjectWriter writer =
+                objectMapper.writerFor(Employee.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        AtomicLong written = new AtomicLong();
+        try (SequenceWriter sequence = format == Format.JSON
+                ? writer.writeValuesAsArray(out)
+                : writer.withRootValueSeparator("\n").writeValues(out)) {
+            employeeService.forEachEmployee(employee -> {
+                try {
+                    sequence.write(employee);
+                    if (written.incrementAndGet() % FLUSH_EVERY == 0) {
+                        sequence.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (format == Format.NDJSON && written.get() > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        log.debug("Streamed {} employees as {}", written.get(), format);
+    }
+}
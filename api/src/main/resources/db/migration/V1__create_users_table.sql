@@ -0,0 +1,9 @@
+-- Table behind the Employee entity, as Hibernate used to generate it.
+CREATE TABLE users (
+    id     UUID         NOT NULL PRIMARY KEY,
+    name   VARCHAR(255),
+    salary INTEGER,
+    age    INTEGER,
+    title  VARCHAR(255),
+    email  VARCHAR(255)
+);
@@ -0,0 +1,3 @@
+-- Serves ORDER BY salary DESC ... FETCH FIRST n ROWS (top earners) as an index-ordered read of n entries, and
+-- MAX(salary) as a single index lookup, instead of a full scan and sort.
+CREATE INDEX idx_users_salary_desc ON users (salary DESC);
@@ -0,0 +1,18 @@
+-- Upstream employees fetched by the sync cycle in progress, with a hash of their content. Emptied before and
+-- after every cycle.
+CREATE TABLE users_sync_staging (
+    id           UUID         NOT NULL PRIMARY KEY,
+    name         VARCHAR(255),
+    salary       INTEGER,
+    age          INTEGER,
+    title        VARCHAR(255),
+    email        VARCHAR(255),
+    content_hash BIGINT       NOT NULL
+);
+
+-- The users rows the sync copied from upstream, with the content hash they were copied with. Rows created
+-- through the api itself have no entry here and are never touched by the sync.
+CREATE TABLE users_sync_state (
+    id           UUID   NOT NULL PRIMARY KEY,
+    content_hash BIGINT NOT NULL
+);
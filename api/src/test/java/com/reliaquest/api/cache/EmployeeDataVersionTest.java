@@ -0,0 +1,77 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.index.EmployeeIndexMaintainer;
+import com.reliaquest.api.model.EmployeeSearchCriteria;
+import com.reliaquest.api.model.entity.Employee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+
+class EmployeeDataVersionTest {
+
+    @Test
+    void testOnEmployeeChanged_BumpsAfterInvalidationListeners() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+                TransactionalEventListenerFactory.class, EmployeeDataVersion.class, InvalidationProbe.class)) {
+            EmployeeDataVersion dataVersion = context.getBean(EmployeeDataVersion.class);
+            InvalidationProbe probe = context.getBean(InvalidationProbe.class);
+            long before = dataVersion.current();
+
+            context.publishEvent(EmployeeChangedEvent.created(
+                    Employee.builder().id(UUID.randomUUID()).name("Ada").build()));
+
+            assertEquals(before, probe.versionSeen);
+            assertEquals(before + 1, dataVersion.current());
+        }
+    }
+
+    @Test
+    void testInvalidationListeners_UseInvalidationOrder() throws NoSuchMethodException {
+        List<Class<?>> listeners =
+                List.of(EmployeeQueryCache.class, RequestCoalescer.class, EmployeeIndexMaintainer.class);
+        for (Class<?> listener : listeners) {
+            Order order = AnnotationUtils.findAnnotation(
+                    listener.getMethod("onEmployeeChanged", EmployeeChangedEvent.class), Order.class);
+            assertNotNull(order, listener.getSimpleName());
+            assertEquals(EmployeeDataVersion.INVALIDATION_ORDER, order.value(), listener.getSimpleName());
+        }
+    }
+
+    @Test
+    void testEtag_ChangesWithVersion() {
+        EmployeeDataVersion dataVersion = new EmployeeDataVersion();
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        String before = dataVersion.etag(criteria);
+
+        dataVersion.onEmployeeChanged(EmployeeChangedEvent.deleted(new Employee()));
+
+        assertNotEquals(before, dataVersion.etag(criteria));
+    }
+
+    /*
+     * Stands in for the caches and indexes: runs where they do and records the version it sees.
+     */
+    static class InvalidationProbe {
+
+        private final EmployeeDataVersion dataVersion;
+        private volatile long versionSeen = -1;
+
+        InvalidationProbe(EmployeeDataVersion dataVersion) {
+            this.dataVersion = dataVersion;
+        }
+
+        @Order(EmployeeDataVersion.INVALIDATION_ORDER)
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onEmployeeChanged(EmployeeChangedEvent event) {
+            versionSeen = dataVersion.current();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.model.EmployeeSearchCriteria;
+import com.reliaquest.api.model.entity.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeQueryCacheTest {
+
+    private EmployeeQueryCache queryCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        queryCache = new EmployeeQueryCache(1_000, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testSearch_CachesUntilMatchingCreate() {
+        EmployeeSearchCriteria byName = EmployeeSearchCriteria.builder().name("john").build();
+        search(byName);
+        search(byName);
+        assertEquals(1, loads.get());
+
+        queryCache.onEmployeeChanged(EmployeeChangedEvent.created(employee("Alice Smith", 5000)));
+        search(byName);
+        assertEquals(1, loads.get());
+
+        queryCache.onEmployeeChanged(EmployeeChangedEvent.created(employee("Big JOHNSON", 5000)));
+        search(byName);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testSearch_MatchesCreateIndependentOfDefaultLocale() {
+        EmployeeSearchCriteria byName = EmployeeSearchCriteria.builder().name("india").build();
+        search(byName);
+        Locale defaultLocale = Locale.getDefault();
+        // Turkish lowercases "I" to a dotless "ı", which would hide the match below.
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            queryCache.onEmployeeChanged(EmployeeChangedEvent.created(employee("INDIA Jones", 5000)));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        search(byName);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testSearch_CachesUntilDeleteOfMatchingId() {
+        Employee cached = employee("John Doe", 5000);
+        EmployeeSearchCriteria byId = EmployeeSearchCriteria.builder().id(cached.getId().toString()).build();
+        search(byId);
+
+        queryCache.onEmployeeChanged(EmployeeChangedEvent.deleted(employee("John Doe", 5000)));
+        search(byId);
+        assertEquals(1, loads.get());
+
+        queryCache.onEmployeeChanged(EmployeeChangedEvent.deleted(cached));
+        search(byId);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testSearch_AnyWriteDropsUnfilteredList() {
+        EmployeeSearchCriteria all = new EmployeeSearchCriteria();
+        search(all);
+
+        queryCache.onEmployeeChanged(EmployeeChangedEvent.created(employee("Alice Smith", 5000)));
+        search(all);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testHighestSalary_DroppedOnlyByWritesThatCanChangeIt() {
+        assertEquals(9000, queryCache.highestSalary(() -> load(9000)));
+
+        queryCache.onEmployeeChanged(EmployeeChangedEvent.created(employee("Low", 4000)));
+        queryCache.onEmployeeChanged(EmployeeChangedEvent.deleted(employee("Low", 4000)));
+        assertEquals(9000, queryCache.highestSalary(() -> load(-1)));
+        assertEquals(1, loads.get());
+
+        queryCache.onEmployeeChanged(EmployeeChangedEvent.deleted(employee("Top", 9000)));
+        assertEquals(7000, queryCache.highestSalary(() -> load(7000)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testSearch_LoadOverlappingWriteIsNotCached() {
+        EmployeeSearchCriteria byName = EmployeeSearchCriteria.builder().name("john").build();
+        Employee john = employee("John Doe", 5000);
+
+        // The write commits while the query runs; it does not even match, but the result may predate it.
+        List<Employee> result = queryCache.search(byName, criteria -> {
+            loads.incrementAndGet();
+            queryCache.onEmployeeChanged(EmployeeChangedEvent.created(employee("Alice Smith", 5000)));
+            return List.of(john);
+        });
+        assertEquals(List.of(john), result);
+
+        search(byName);
+        search(byName);
+        assertEquals(2, loads.get());
+    }
+
+    private List<Employee> search(EmployeeSearchCriteria criteria) {
+        Function<EmployeeSearchCriteria, List<Employee>> loader = ignored -> {
+            loads.incrementAndGet();
+            return List.of();
+        };
+        return queryCache.search(criteria, loader);
+    }
+
+    private Integer load(int salary) {
+        loads.incrementAndGet();
+        return salary;
+    }
+
+    private static Employee employee(String name, int salary) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).salary(salary).build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.model.entity.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer requestCoalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(meterRegistry);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testExecute_ConcurrentCallersShareOneLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<Integer> leader = executor.submit(() -> requestCoalescer.execute("highest", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 9000;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Integer> follower = executor.submit(() -> requestCoalescer.execute("highest", () -> {
+            loads.incrementAndGet();
+            return -1;
+        }));
+        waitForCoalesced(1);
+        release.countDown();
+
+        assertEquals(9000, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(9000, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(0.5, requestCoalescer.coalescingRatio());
+    }
+
+    @Test
+    void testExecute_DoesNotKeepCompletedResults() {
+        AtomicInteger loads = new AtomicInteger();
+
+        requestCoalescer.execute("top", loads::incrementAndGet);
+        int second = requestCoalescer.execute("top", loads::incrementAndGet);
+
+        assertEquals(2, second);
+        assertEquals(0.0, requestCoalescer.coalescingRatio());
+    }
+
+    @Test
+    void testExecute_FollowersReceiveLeaderFailure() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> requestCoalescer.execute("id", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<Object> follower = executor.submit(() -> requestCoalescer.execute("id", () -> "unused"));
+        waitForCoalesced(1);
+        release.countDown();
+
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+        assertInstanceOf(IllegalStateException.class, followerFailure.getCause());
+    }
+
+    @Test
+    void testOnEmployeeChanged_LaterCallersStartNewLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Integer> stale = executor.submit(() -> requestCoalescer.execute("highest", () -> {
+            started.countDown();
+            await(release);
+            return 5000;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        requestCoalescer.onEmployeeChanged(EmployeeChangedEvent.created(new Employee()));
+
+        assertEquals(9000, requestCoalescer.execute("highest", () -> 9000));
+        release.countDown();
+        assertEquals(5000, stale.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitForCoalesced(int expected) throws InterruptedException {
+        Counter coalesced =
+                meterRegistry.get("employee.coalescer.calls").tag("result", "coalesced").counter();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced.count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
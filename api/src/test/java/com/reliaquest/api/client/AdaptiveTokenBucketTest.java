@@ -0,0 +1,91 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveTokenBucketTest {
+
+    private AtomicLong clock;
+    private AdaptiveTokenBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        bucket = new AdaptiveTokenBucket(5, Duration.ofSeconds(30), Duration.ofSeconds(120), clock::get);
+    }
+
+    @Test
+    void testAcquire_StopsWhenBucketIsEmpty() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            bucket.onAccepted(bucket.acquire(Duration.ZERO));
+        }
+
+        assertEquals(-1, bucket.acquire(Duration.ZERO));
+        assertEquals(Duration.ofSeconds(30), bucket.timeUntilAvailable());
+    }
+
+    @Test
+    void testRefill_AfterIntervalSinceLastAcceptedRequest() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            bucket.onAccepted(bucket.acquire(Duration.ZERO));
+        }
+
+        advance(Duration.ofSeconds(30));
+
+        assertTrue(bucket.acquire(Duration.ZERO) >= 0);
+    }
+
+    @Test
+    void testOnThrottled_LearnsCapacityFromAcceptedRequests() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            bucket.onAccepted(bucket.acquire(Duration.ZERO));
+        }
+        long permit = bucket.acquire(Duration.ZERO);
+
+        bucket.onThrottled(permit, null);
+
+        assertEquals(3, bucket.capacity());
+        assertEquals(-1, bucket.acquire(Duration.ZERO));
+    }
+
+    @Test
+    void testOnThrottled_CountsOneLockoutPerEpoch() throws InterruptedException {
+        bucket.onAccepted(bucket.acquire(Duration.ZERO));
+        bucket.onAccepted(bucket.acquire(Duration.ZERO));
+        long first = bucket.acquire(Duration.ZERO);
+        long second = bucket.acquire(Duration.ZERO);
+
+        bucket.onThrottled(first, null);
+        bucket.onThrottled(second, null);
+
+        assertEquals(2, bucket.capacity());
+    }
+
+    @Test
+    void testOnThrottled_HonoursRetryAfter() throws InterruptedException {
+        long permit = bucket.acquire(Duration.ZERO);
+
+        bucket.onThrottled(permit, Duration.ofSeconds(60));
+
+        assertEquals(Duration.ofSeconds(60), bucket.timeUntilAvailable());
+        assertEquals(Duration.ofSeconds(60), bucket.refillInterval());
+    }
+
+    @Test
+    void testOnThrottled_DoublesCooldownWhenLockoutOutlastsIt() throws InterruptedException {
+        bucket.onThrottled(bucket.acquire(Duration.ZERO), null);
+        advance(Duration.ofSeconds(30));
+
+        bucket.onThrottled(bucket.acquire(Duration.ZERO), null);
+
+        assertEquals(Duration.ofSeconds(60), bucket.refillInterval());
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,276 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.upstream.UpstreamEmployee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeClientTest {
+
+    private static final UUID FIRST = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID SECOND = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    private HttpClient httpClient;
+    private MockEmployeeClient client;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = mock(HttpClient.class);
+        client = new MockEmployeeClient(
+                httpClient,
+                new ObjectMapper(),
+                new AdaptiveTokenBucket(5, Duration.ofSeconds(30), Duration.ofSeconds(120)),
+                URI.create("http://localhost:8112/api/v1/employee"),
+                Duration.ofSeconds(5),
+                2,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1),
+                Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testForEachEmployee_ReadsDataArrayAndSkipsOtherFields() throws Exception {
+        respond(response(
+                200,
+                """
+                {"status": "Successfully processed request.",
+                 "meta": {"page": [1, 2], "nested": {"data": []}},
+                 "data": [
+                   {"id": "%s", "employee_name": "Ada Lovelace", "employee_salary": 9000, "employee_age": 36,
+                    "employee_title": "Engineer", "employee_email": "ada@company.com", "extra": {"a": [1, {}]}},
+                   {"id": "%s", "employee_name": "Zoë Ångström", "employee_salary": null, "tags": ["x"]}
+                 ],
+                 "error": null}
+                """
+                        .formatted(FIRST, SECOND)));
+        List<UpstreamEmployee> employees = new ArrayList<>();
+
+        assertEquals(2, client.forEachEmployee(employees::add));
+
+        assertEquals(FIRST, employees.get(0).getId());
+        assertEquals("Ada Lovelace", employees.get(0).getName());
+        assertEquals(9000, employees.get(0).getSalary());
+        assertEquals("ada@company.com", employees.get(0).getEmail());
+        assertEquals(SECOND, employees.get(1).getId());
+        assertEquals("Zoë Ångström", employees.get(1).getName());
+        assertNull(employees.get(1).getSalary());
+    }
+
+    @Test
+    void testForEachEmployee_NullData() throws Exception {
+        respond(response(200, "{\"data\": null, \"status\": \"Successfully processed request.\"}"));
+        List<UpstreamEmployee> employees = new ArrayList<>();
+
+        assertEquals(0, client.forEachEmployee(employees::add));
+        assertTrue(employees.isEmpty());
+    }
+
+    @Test
+    void testForEachEmployee_MissingData() throws Exception {
+        respond(response(200, "{\"status\": \"Successfully processed request.\", \"error\": null}"));
+
+        assertEquals(0, client.forEachEmployee(employee -> fail("No employees expected")));
+    }
+
+    @Test
+    void testForEachEmployee_RejectsNonObjectBody() throws Exception {
+        respond(response(200, "[]"));
+
+        assertThrows(IllegalStateException.class, () -> client.forEachEmployee(employee -> {}));
+    }
+
+    @Test
+    void testForEachEmployee_ClientErrorIsThrown() throws Exception {
+        respond(response(400, "{\"error\": \"bad request\"}"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> client.forEachEmployee(x -> {}));
+        assertTrue(e.getMessage().contains("400"), e.getMessage());
+    }
+
+    @Test
+    void testForEachEmployee_RetriesServerErrorAndClosesItsBody() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream failedBody = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        HttpResponse<InputStream> failed = response(503, failedBody);
+        HttpResponse<InputStream> ok = response(200, "{\"data\": [{\"id\": \"" + FIRST + "\"}]}");
+        doReturn(failed, ok).when(httpClient).send(any(), any());
+
+        assertEquals(1, client.forEachEmployee(employee -> {}));
+        assertTrue(closed.get());
+        verify(httpClient, times(2)).send(any(), any());
+    }
+
+    @Test
+    void testGetEmployees_RetriesThrottledRequestAfterRetryAfter() throws Exception {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(5, Duration.ofMillis(1), Duration.ofSeconds(1));
+        MockEmployeeClient retrying = client(bucket, 3);
+        HttpResponse<byte[]> throttled = response(429, new byte[0], Map.of("Retry-After", List.of("0")));
+        HttpResponse<byte[]> ok = response(200, json("{\"data\": [{\"id\": \"" + FIRST + "\"}]}"), Map.of());
+        doReturn(throttled, ok).when(httpClient).send(any(), any());
+
+        List<UpstreamEmployee> employees = retrying.getEmployees();
+
+        assertEquals(FIRST, employees.get(0).getId());
+        verify(httpClient, times(2)).send(any(), any());
+    }
+
+    @Test
+    void testGetEmployees_RetryAfterBeyondMaxWaitFailsWithoutAnotherRequest() throws Exception {
+        HttpResponse<byte[]> throttled = response(429, new byte[0], Map.of("Retry-After", List.of("60")));
+        doReturn(throttled).when(httpClient).send(any(), any());
+
+        UpstreamUnavailableException e = assertThrows(UpstreamUnavailableException.class, client::getEmployees);
+
+        // The lockout the upstream announced is passed on, so callers know when to come back.
+        assertTrue(e.getRetryAfter().compareTo(Duration.ofSeconds(59)) > 0, e.getRetryAfter().toString());
+        assertTrue(e.getRetryAfter().compareTo(Duration.ofSeconds(60)) <= 0, e.getRetryAfter().toString());
+        verify(httpClient, times(1)).send(any(), any());
+    }
+
+    @Test
+    void testGetEmployees_GivesUpOnServerErrorsAfterMaxAttempts() throws Exception {
+        HttpResponse<byte[]> failed = response(500, json("{}"), Map.of());
+        doReturn(failed).when(httpClient).send(any(), any());
+
+        UpstreamUnavailableException e = assertThrows(UpstreamUnavailableException.class, client::getEmployees);
+
+        assertTrue(e.getMessage().contains("after 2 attempts (status 500)"), e.getMessage());
+        verify(httpClient, times(2)).send(any(), any());
+    }
+
+    @Test
+    void testGetEmployees_RetriesConnectionFailure() throws Exception {
+        HttpResponse<byte[]> ok = response(200, json("{\"data\": []}"), Map.of());
+        when(httpClient.send(any(), any())).thenThrow(new IOException("Connection reset")).thenAnswer(call -> ok);
+
+        assertEquals(List.of(), client.getEmployees());
+        verify(httpClient, times(2)).send(any(), any());
+    }
+
+    @Test
+    void testCreateEmployee_NotReplayedAfterResponseTimeout() throws Exception {
+        when(httpClient.send(any(), any())).thenThrow(new HttpTimeoutException("request timed out"));
+
+        UpstreamUnavailableException e =
+                assertThrows(UpstreamUnavailableException.class, () -> client.createEmployee(newEmployee()));
+
+        // The upstream may have created the employee before the timeout; a replay could create it twice.
+        assertTrue(e.getMessage().contains("HttpTimeoutException"), e.getMessage());
+        verify(httpClient, times(1)).send(any(), any());
+    }
+
+    @Test
+    void testCreateEmployee_NotReplayedAfterServerError() throws Exception {
+        HttpResponse<byte[]> failed = response(502, json("{}"), Map.of());
+        doReturn(failed).when(httpClient).send(any(), any());
+
+        assertThrows(UpstreamUnavailableException.class, () -> client.createEmployee(newEmployee()));
+        verify(httpClient, times(1)).send(any(), any());
+    }
+
+    @Test
+    void testCreateEmployee_RetriesThrottledAndUnconnectedAttempts() throws Exception {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(5, Duration.ofMillis(1), Duration.ofSeconds(1));
+        MockEmployeeClient retrying = client(bucket, 3);
+        HttpResponse<byte[]> throttled = response(429, new byte[0], Map.of("Retry-After", List.of("0")));
+        HttpResponse<byte[]> created = response(200, json("{\"data\": {\"id\": \"" + FIRST + "\"}}"), Map.of());
+        when(httpClient.send(any(), any()))
+                .thenThrow(new ConnectException("Connection refused"))
+                .thenAnswer(call -> throttled)
+                .thenAnswer(call -> created);
+
+        assertEquals(FIRST, retrying.createEmployee(newEmployee()).getId());
+        verify(httpClient, times(3)).send(any(), any());
+    }
+
+    @Test
+    void testDeleteEmployee_NotReplayedAfterConnectionReset() throws Exception {
+        when(httpClient.send(any(), any())).thenThrow(new IOException("Connection reset"));
+
+        assertThrows(UpstreamUnavailableException.class, () -> client.deleteEmployee("Ada Lovelace"));
+        verify(httpClient, times(1)).send(any(), any());
+    }
+
+    @Test
+    void testGetEmployee_ClientErrorIsNotRetried() throws Exception {
+        HttpResponse<byte[]> missing = response(404, json("{}"), Map.of());
+        doReturn(missing).when(httpClient).send(any(), any());
+
+        assertEquals(Optional.empty(), client.getEmployee(FIRST));
+        verify(httpClient, times(1)).send(any(), any());
+    }
+
+    private static EmployeeDTO newEmployee() {
+        return EmployeeDTO.builder()
+                .name("Ada Lovelace")
+                .salary(9000)
+                .age(36)
+                .title("Engineer")
+                .build();
+    }
+
+    private MockEmployeeClient client(AdaptiveTokenBucket bucket, int maxAttempts) {
+        return new MockEmployeeClient(
+                httpClient,
+                new ObjectMapper(),
+                bucket,
+                URI.create("http://localhost:8112/api/v1/employee"),
+                Duration.ofSeconds(5),
+                maxAttempts,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1),
+                Duration.ofSeconds(1));
+    }
+
+    private void respond(HttpResponse<InputStream> response) throws Exception {
+        doReturn(response).when(httpClient).send(any(), any());
+    }
+
+    private static HttpResponse<InputStream> response(int status, String body) {
+        return response(status, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static HttpResponse<InputStream> response(int status, InputStream body) {
+        return response(status, body, Map.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> HttpResponse<T> response(int status, T body, Map<String, List<String>> headers) {
+        HttpResponse<T> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(response.body()).thenReturn(body);
+        when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+        return response;
+    }
+
+    private static byte[] json(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
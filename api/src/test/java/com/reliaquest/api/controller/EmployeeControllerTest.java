@@ -1,29 +1,44 @@
 package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeDataVersion;
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.BulkOperationResult;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSearchCriteria;
 import com.reliaquest.api.model.entity.Employee;
 import com.reliaquest.api.service.impl.EmployeeService;
+import com.reliaquest.api.web.EmployeeJsonStreamWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.hamcrest.Matchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EmployeeController.class)
+@Import({EmployeeJsonStreamWriter.class, EmployeeDataVersion.class})
 class EmployeeControllerTest {
 
     @Autowired
@@ -35,6 +50,9 @@ class EmployeeControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EmployeeDataVersion employeeDataVersion;
+
     private Employee employee;
 
     @BeforeEach
@@ -55,6 +73,139 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].name").value("John Doe"));
     }
 
+    @Test
+    void testGetAllEmployees_NotModifiedWithoutQuery() throws Exception {
+        Mockito.when(employeeService.searchEmployee(any())).thenReturn(List.of(employee));
+        String etag = mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        Mockito.verify(employeeService, Mockito.times(1)).searchEmployee(any());
+    }
+
+    @Test
+    void testGetAllEmployees_ModifiedAfterWrite() throws Exception {
+        Mockito.when(employeeService.searchEmployee(any())).thenReturn(List.of(employee));
+        String etag = mockMvc.perform(get("/api/v1/employees"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        employeeDataVersion.onEmployeeChanged(EmployeeChangedEvent.deleted(employee));
+
+        mockMvc.perform(get("/api/v1/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(etag)))
+                .andExpect(jsonPath("$[0].name").value("John Doe"));
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch_EtagDependsOnCriteria() throws Exception {
+        Mockito.when(employeeService.searchEmployee(any())).thenReturn(List.of(employee));
+        String etag = mockMvc.perform(get("/api/v1/employees/search/{name}", "John"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employees/search/{name}", "John").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/employees/search/{name}", "Jane").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetEmployeesByNameSearch_EtagDiffersWhenCriteriaHashCodesCollide() throws Exception {
+        Mockito.when(employeeService.searchEmployee(any())).thenReturn(List.of(employee));
+        // "Aa" and "BB" have the same String.hashCode, so their criteria have the same hashCode too.
+        assertEquals(
+                EmployeeSearchCriteria.builder().name("Aa").build().hashCode(),
+                EmployeeSearchCriteria.builder().name("BB").build().hashCode());
+        String etag = mockMvc.perform(get("/api/v1/employees/search/{name}", "Aa"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employees/search/{name}", "BB").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+    }
+
+    @Test
+    void testStreamAllEmployees_Json() throws Exception {
+        streamEmployees(employee, employee);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employees").param("stream", "json"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].name").value("John Doe"));
+    }
+
+    @Test
+    void testStreamAllEmployees_Ndjson() throws Exception {
+        streamEmployees(employee, employee);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employees").param("stream", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("John Doe", objectMapper.readValue(lines[1], Employee.class).getName());
+    }
+
+    @Test
+    void testStreamAllEmployees_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").param("stream", "xml")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetEmployeesPage() throws Exception {
+        Mockito.when(employeeService.searchEmployeePage(any(), eq("abc"), eq(1)))
+                .thenReturn(new EmployeePage(List.of(employee), "def"));
+
+        // A real query string, which the Link header is built from; param() alone leaves it empty.
+        mockMvc.perform(get("/api/v1/employees?limit=1&cursor=abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "def"))
+                .andExpect(header().string(
+                        "Link", "<http://localhost/api/v1/employees?limit=1&cursor=def>; rel=\"next\""))
+                .andExpect(jsonPath("$[0].name").value("John Doe"));
+    }
+
+    @Test
+    void testGetEmployeesByNameSearchPage_LastPage() throws Exception {
+        Mockito.when(employeeService.searchEmployeePage(any(), Mockito.isNull(), eq(5)))
+                .thenReturn(new EmployeePage(List.of(employee), null));
+
+        mockMvc.perform(get("/api/v1/employees/search/{name}", "John").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$[0].name").value("John Doe"));
+    }
+
+    @Test
+    void testGetEmployeesPage_RejectsOversizedLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").param("limit", "5000")).andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetEmployeesByNameSearch() throws Exception {
         Mockito.when(employeeService.searchEmployee(any())).thenReturn(List.of(employee));
@@ -66,13 +217,23 @@ class EmployeeControllerTest {
 
     @Test
     void testGetEmployeeById() throws Exception {
-        Mockito.when(employeeService.searchEmployee(any())).thenReturn(List.of(employee));
+        Mockito.when(employeeService.getEmployeeById(employee.getId().toString()))
+                .thenReturn(employee);
 
         mockMvc.perform(get("/api/v1/employees/{id}", employee.getId().toString()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("John Doe"));
     }
 
+    @Test
+    void testGetEmployeeById_NotFound() throws Exception {
+        String id = UUID.randomUUID().toString();
+        Mockito.when(employeeService.getEmployeeById(id))
+                .thenThrow(new EmployeeNotFoundException("Employee not found with ID: " + id));
+
+        mockMvc.perform(get("/api/v1/employees/{id}", id)).andExpect(status().isNotFound());
+    }
+
     @Test
     void testGetHighestSalaryOfEmployees() throws Exception {
         Mockito.when(employeeService.getHighestSalary()).thenReturn(8000);
@@ -110,6 +271,23 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.name").value("John Doe")); // matches mocked entity
     }
 
+    @Test
+    void testCreateEmployees() throws Exception {
+        Mockito.when(employeeService.createEmployees(any()))
+                .thenReturn(List.of(
+                        BulkOperationResult.created(0, employee.getId()),
+                        BulkOperationResult.invalid(1, "name: Name must not be blank")));
+
+        mockMvc.perform(post("/api/v1/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new EmployeeDTO(), new EmployeeDTO()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").value(employee.getId().toString()))
+                .andExpect(jsonPath("$[1].status").value("INVALID"))
+                .andExpect(jsonPath("$[1].error").value("name: Name must not be blank"));
+    }
+
     @Test
     void testDeleteEmployeeById() throws Exception {
         Mockito.when(employeeService.deleteEmployee(eq(employee.getId().toString()))).thenReturn("John Doe");
@@ -118,4 +296,31 @@ class EmployeeControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(content().string("John Doe"));
     }
+
+    @Test
+    void testDeleteEmployees() throws Exception {
+        UUID missing = UUID.randomUUID();
+        Mockito.when(employeeService.deleteEmployees(List.of(employee.getId().toString(), missing.toString())))
+                .thenReturn(List.of(
+                        BulkOperationResult.deleted(0, employee.getId()), BulkOperationResult.notFound(1, missing)));
+
+        mockMvc.perform(delete("/api/v1/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                List.of(employee.getId().toString(), missing.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("DELETED"))
+                .andExpect(jsonPath("$[0].id").value(employee.getId().toString()))
+                .andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+    }
+
+    private void streamEmployees(Employee... employees) {
+        doAnswer(invocation -> {
+                    Consumer<Employee> action = invocation.getArgument(0);
+                    Arrays.stream(employees).forEach(action);
+                    return null;
+                })
+                .when(employeeService)
+                .forEachEmployee(any());
+    }
 }
@@ -0,0 +1,183 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.SalaryAggregate;
+import com.reliaquest.api.model.entity.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ColumnarEmployeeSnapshotTest {
+
+    private ColumnarEmployeeSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ColumnarEmployeeSnapshot();
+    }
+
+    @Test
+    void testSalary_FiltersByRangesAndTitle() {
+        snapshot.add(employee("Alice", "Engineer", 3000, 25));
+        snapshot.add(employee("Bob", "Engineer", 9000, 35));
+        snapshot.add(employee("Carol", "Manager", 6000, 38));
+        snapshot.add(employee("Dave", "Engineer", 7000, 52));
+
+        SalaryAggregate thirties = snapshot.salary(new EmployeeFilter(30, 39, null, null, null));
+        SalaryAggregate engineers = snapshot.salary(new EmployeeFilter(null, null, 5000, null, "Engineer"));
+
+        assertEquals(2, thirties.count());
+        assertEquals(15000, thirties.sum());
+        assertEquals(6000, thirties.min());
+        assertEquals(9000, thirties.max());
+        assertEquals(2, engineers.count());
+        assertEquals(7000, engineers.min());
+    }
+
+    @Test
+    void testSalary_UnknownTitleIsEmpty() {
+        snapshot.add(employee("Alice", "Engineer", 3000, 25));
+
+        assertEquals(SalaryAggregate.empty(), snapshot.salary(new EmployeeFilter(null, null, null, null, "Pilot")));
+    }
+
+    @Test
+    void testSalary_PercentilesWithinOnePercent() {
+        for (int salary = 1_000; salary <= 100_000; salary += 1_000) {
+            snapshot.add(employee("E" + salary, "Engineer", salary, 30));
+        }
+
+        SalaryAggregate salary = snapshot.salary(EmployeeFilter.all());
+
+        assertEquals(1_000, salary.min());
+        assertEquals(100_000, salary.max());
+        assertEquals(50_000, salary.percentiles().get("p50"), 500);
+        assertEquals(90_000, salary.percentiles().get("p90"), 900);
+        assertEquals(99_000, salary.percentiles().get("p99"), 990);
+    }
+
+    @Test
+    void testSalary_MissingAgeNeverMatchesAgeFilter() {
+        Employee noAge = employee("Alice", "Engineer", 3000, 25);
+        noAge.setAge(null);
+        snapshot.add(noAge);
+        snapshot.add(employee("Bob", "Engineer", 9000, 35));
+
+        assertEquals(2, snapshot.salary(EmployeeFilter.all()).count());
+        assertEquals(9000, snapshot.salary(new EmployeeFilter(null, 40, null, null, null)).sum());
+    }
+
+    @Test
+    void testTopNames_HighestFirstWithinFilter() {
+        snapshot.add(employee("Alice", "Engineer", 3000, 25));
+        snapshot.add(employee("Bob", "Engineer", 9000, 35));
+        snapshot.add(employee("Carol", "Manager", 6000, 38));
+        snapshot.add(employee("Dave", "Engineer", 7000, 52));
+
+        assertEquals(List.of("Bob", "Carol"), snapshot.topNames(2, new EmployeeFilter(null, 40, null, null, null)));
+        assertEquals(List.of("Bob", "Dave", "Alice"), snapshot.topNames(5, filterTitle("Engineer")));
+    }
+
+    @Test
+    void testRemove_KeepsRemainingRowsIntact() {
+        Employee alice = employee("Alice", "Engineer", 3000, 25);
+        Employee bob = employee("Bob", "Manager", 9000, 35);
+        Employee carol = employee("Carol", "Engineer", 6000, 38);
+        snapshot.add(alice);
+        snapshot.add(bob);
+        snapshot.add(carol);
+
+        snapshot.remove(alice);
+        snapshot.remove(alice);
+
+        assertEquals(2, snapshot.size());
+        assertEquals(List.of("Bob", "Carol"), snapshot.topNames(10, EmployeeFilter.all()));
+        assertEquals(List.of("Carol"), snapshot.topNames(10, filterTitle("Engineer")));
+    }
+
+    @Test
+    void testAdd_ReplacesExistingId() {
+        Employee alice = employee("Alice", "Engineer", 3000, 25);
+        snapshot.add(alice);
+
+        alice.setSalary(8000);
+        snapshot.add(alice);
+
+        assertEquals(1, snapshot.size());
+        assertEquals(8000, snapshot.salary(EmployeeFilter.all()).max());
+    }
+
+    @Test
+    void testAdd_CompactionIgnoresStringsOfRowPreviouslyInNewSlot() {
+        Employee first = employee("X", "Engineer", 3000, 25);
+        first.setEmail("x".repeat(40_000));
+        Employee second = employee("Y", "Engineer", 4000, 25);
+        second.setEmail("y".repeat(20_000));
+        snapshot.add(first);
+        snapshot.add(second);
+        // Too little garbage to compact yet, so the freed slots still describe 60 KB of dead strings.
+        snapshot.remove(second);
+        snapshot.remove(first);
+
+        // The email no longer fits, and the buffer is compacted to the size of the live strings while this row is
+        // half written into slot 0.
+        Employee third = employee("Z", "Manager", 5000, 30);
+        third.setEmail("z".repeat(10_000));
+        snapshot.add(third);
+
+        assertEquals(List.of("Z"), snapshot.topNames(10, EmployeeFilter.all()));
+        Employee fourth = employee("W", "Manager", 6000, 30);
+        snapshot.add(fourth);
+        assertEquals(List.of("W", "Z"), snapshot.topNames(10, EmployeeFilter.all()));
+    }
+
+    @Test
+    void testParallelScan_MatchesEntityScan() {
+        Random random = new Random(7);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < ColumnarEmployeeSnapshot.PARALLEL_THRESHOLD * 2; i++) {
+            Employee employee =
+                    employee("E" + i, "T" + random.nextInt(5), random.nextInt(500_000), 18 + random.nextInt(48));
+            employees.add(employee);
+            snapshot.add(employee);
+        }
+        employees.subList(0, employees.size() / 3).forEach(snapshot::remove);
+        List<Employee> live = employees.subList(employees.size() / 3, employees.size());
+        EmployeeFilter filter = new EmployeeFilter(30, 50, 100_000, null, "T2");
+
+        List<Employee> expected = live.stream()
+                .filter(e -> e.getAge() >= 30 && e.getAge() <= 50)
+                .filter(e -> e.getSalary() >= 100_000 && e.getTitle().equals("T2"))
+                .sorted(Comparator.comparing(Employee::getSalary).reversed().thenComparing(Employee::getId))
+                .toList();
+
+        assertEquals(
+                expected.stream().limit(10).map(Employee::getName).toList(), snapshot.topNames(10, filter));
+        SalaryAggregate salary = snapshot.salary(filter);
+        assertEquals(expected.size(), salary.count());
+        assertEquals(expected.stream().mapToLong(Employee::getSalary).sum(), salary.sum());
+        assertEquals(expected.get(expected.size() - 1).getSalary(), salary.min());
+        assertEquals(expected.get(0).getSalary(), salary.max());
+    }
+
+    private static EmployeeFilter filterTitle(String title) {
+        return new EmployeeFilter(null, null, null, null, title);
+    }
+
+    private static Employee employee(String name, String title, int salary, int age) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .title(title)
+                .salary(salary)
+                .age(age)
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.SalaryAggregate;
+import com.reliaquest.api.model.entity.Employee;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeAggregateIndexTest {
+
+    private EmployeeAggregateIndex aggregateIndex;
+
+    @BeforeEach
+    void setUp() {
+        aggregateIndex = new EmployeeAggregateIndex();
+    }
+
+    @Test
+    void testSalary_ExactCountSumMinMax() {
+        aggregateIndex.add(employee("Engineer", 3000, 25));
+        aggregateIndex.add(employee("Engineer", 9000, 31));
+        aggregateIndex.add(employee("Manager", 6000, 45));
+
+        SalaryAggregate salary = aggregateIndex.salary();
+
+        assertEquals(3, salary.count());
+        assertEquals(18000, salary.sum());
+        assertEquals(3000, salary.min());
+        assertEquals(9000, salary.max());
+        assertEquals(6000.0, salary.average());
+    }
+
+    @Test
+    void testSalaryByTitle_GroupedAndSorted() {
+        aggregateIndex.add(employee("Manager", 6000, 45));
+        aggregateIndex.add(employee("Engineer", 3000, 25));
+        aggregateIndex.add(employee("Engineer", 9000, 31));
+
+        Map<String, SalaryAggregate> byTitle = aggregateIndex.salaryByTitle();
+
+        assertEquals(List.of("Engineer", "Manager"), List.copyOf(byTitle.keySet()));
+        assertEquals(2, byTitle.get("Engineer").count());
+        assertEquals(6000.0, byTitle.get("Engineer").average());
+        assertEquals(6000, byTitle.get("Manager").max());
+    }
+
+    @Test
+    void testPercentiles_WithinOnePercent() {
+        IntStream.rangeClosed(1, 1000).forEach(i -> aggregateIndex.add(employee("Engineer", i * 100, 30)));
+
+        Map<String, Integer> percentiles = aggregateIndex.salary().percentiles();
+
+        assertEquals(50000, percentiles.get("p50"), 500);
+        assertEquals(90000, percentiles.get("p90"), 900);
+        assertEquals(99000, percentiles.get("p99"), 990);
+    }
+
+    @Test
+    void testRemove_RestoresMinMaxAndDropsEmptyTitle() {
+        Employee lowest = employee("Engineer", 1000, 25);
+        Employee manager = employee("Manager", 8000, 52);
+        aggregateIndex.add(lowest);
+        aggregateIndex.add(employee("Engineer", 5000, 33));
+        aggregateIndex.add(manager);
+
+        aggregateIndex.remove(lowest);
+        aggregateIndex.remove(manager);
+
+        SalaryAggregate salary = aggregateIndex.salary();
+        assertEquals(1, salary.count());
+        assertEquals(5000, salary.min());
+        assertEquals(5000, salary.max());
+        assertEquals(List.of("Engineer"), List.copyOf(aggregateIndex.salaryByTitle().keySet()));
+        assertEquals(Map.of("30-39", 1L), aggregateIndex.ageHistogram());
+    }
+
+    @Test
+    void testAdd_IsIdempotentPerId() {
+        Employee employee = employee("Engineer", 4000, 29);
+
+        aggregateIndex.add(employee);
+        aggregateIndex.add(employee);
+        aggregateIndex.remove(employee);
+        aggregateIndex.remove(employee);
+
+        assertEquals(0, aggregateIndex.salary().count());
+        assertTrue(aggregateIndex.salaryByTitle().isEmpty());
+        assertTrue(aggregateIndex.ageHistogram().isEmpty());
+    }
+
+    @Test
+    void testAgeHistogram_BandsInAscendingOrder() {
+        aggregateIndex.add(employee("Engineer", 4000, 42));
+        aggregateIndex.add(employee("Engineer", 4000, 18));
+        aggregateIndex.add(employee("Engineer", 4000, 19));
+
+        assertEquals(List.of("10-19", "40-49"), List.copyOf(aggregateIndex.ageHistogram().keySet()));
+        assertEquals(2L, aggregateIndex.ageHistogram().get("10-19"));
+    }
+
+    private static Employee employee(String title, int salary, int age) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + salary)
+                .title(title)
+                .salary(salary)
+                .age(age)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.entity.Employee;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameTrigramIndexTest {
+
+    private NameTrigramIndex index;
+    private Employee john;
+    private Employee jane;
+
+    @BeforeEach
+    void setUp() {
+        index = new NameTrigramIndex(100);
+        john = employee("John Doe");
+        jane = employee("Jane Doerty");
+        index.add(john);
+        index.add(jane);
+    }
+
+    @Test
+    void testSearch_CaseInsensitiveSubstring() {
+        assertEquals(Optional.of(Set.of(john.getId(), jane.getId())), index.search("DOE"));
+        assertEquals(Optional.of(Set.of(jane.getId())), index.search("e doer"));
+    }
+
+    @Test
+    void testSearch_RequiresWholeFragment() {
+        // "ohn" and "doe" both occur in John's name, but not as one substring.
+        assertEquals(Optional.of(Set.of()), index.search("ohndoe"));
+    }
+
+    @Test
+    void testSearch_ShortFragmentFallsBack() {
+        assertTrue(index.search("jo").isEmpty());
+    }
+
+    @Test
+    void testSearch_UnselectiveFragmentFallsBack() {
+        NameTrigramIndex small = new NameTrigramIndex(1);
+        small.add(john);
+        small.add(jane);
+
+        assertTrue(small.search("doe").isEmpty());
+        assertEquals(Optional.of(Set.of(john.getId())), small.search("john"));
+    }
+
+    @Test
+    void testRemove_DropsFromPostings() {
+        index.remove(john);
+
+        assertEquals(Optional.of(Set.of(jane.getId())), index.search("doe"));
+        assertEquals(Optional.of(Set.of()), index.search("john"));
+        assertEquals(1, index.size());
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.entity.Employee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private SalaryIndex salaryIndex;
+
+    @BeforeEach
+    void setUp() {
+        salaryIndex = new SalaryIndex();
+    }
+
+    @Test
+    void testTopNames_OrderedBySalaryDescending() {
+        salaryIndex.add(employee("Alice", 3000));
+        salaryIndex.add(employee("Bob", 9000));
+        salaryIndex.add(employee("Carol", 6000));
+
+        assertEquals(List.of("Bob", "Carol"), salaryIndex.topNames(2));
+        assertEquals(Optional.of(9000), salaryIndex.highestSalary());
+    }
+
+    @Test
+    void testTopNames_LimitedToK() {
+        IntStream.rangeClosed(1, 25).forEach(i -> salaryIndex.add(employee("E" + i, i * 100)));
+
+        List<String> result = salaryIndex.topNames(10);
+
+        assertEquals(10, result.size());
+        assertEquals("E25", result.get(0));
+        assertEquals("E16", result.get(9));
+    }
+
+    @Test
+    void testRemove_UpdatesHighestSalary() {
+        Employee highest = employee("Bob", 9000);
+        salaryIndex.add(employee("Alice", 3000));
+        salaryIndex.add(highest);
+
+        salaryIndex.remove(highest);
+
+        assertEquals(Optional.of(3000), salaryIndex.highestSalary());
+        assertEquals(List.of("Alice"), salaryIndex.topNames(10));
+    }
+
+    @Test
+    void testAdd_IsIdempotent() {
+        Employee alice = employee("Alice", 3000);
+
+        salaryIndex.add(alice);
+        salaryIndex.add(alice);
+
+        assertEquals(1, salaryIndex.size());
+        assertEquals(List.of("Alice"), salaryIndex.topNames(10));
+    }
+
+    @Test
+    void testHighestSalary_EmptyIndex() {
+        assertTrue(salaryIndex.highestSalary().isEmpty());
+        assertTrue(salaryIndex.topNames(10).isEmpty());
+    }
+
+    private static Employee employee(String name, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .build();
+    }
+}
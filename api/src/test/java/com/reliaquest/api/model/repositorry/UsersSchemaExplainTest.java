@@ -0,0 +1,113 @@
+package com.reliaquest.api.model.repositorry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Checks H2's plans for the SQL behind {@link EmployeeRepository} and the id lookups of a trigram search, on the
+ * schema built by the Flyway migrations. Repository queries are explained as Hibernate generates them, captured by
+ * a {@link StatementInspector}, with their parameters bound the way Hibernate binds them.
+ */
+@DataJpaTest(
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.reliaquest.api.model.repositorry.UsersSchemaExplainTest$CapturingInspector")
+class UsersSchemaExplainTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 100; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO users (id, name, salary, age, title, email) VALUES (?, ?, ?, ?, ?, ?)",
+                    UUID.randomUUID(),
+                    "Employee " + i,
+                    1000 * i,
+                    20 + i % 40,
+                    "Engineer",
+                    "employee" + i + "@company.com");
+        }
+        // Cached query results would skip the SQL this test wants to see.
+        entityManagerFactory.getCache().evictAll();
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void testTopEarners_ReadInSalaryIndexOrder() {
+        List<String> names = employeeRepository.findTop10EmployeesBySalary(PageRequest.of(0, 10));
+        String sql = capturedSelect();
+
+        assertTrue(sql.contains("fetch first ? rows only"), sql);
+        String plan = explain(sql, 10);
+
+        assertTrue(plan.contains("IDX_USERS_SALARY_DESC"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+        assertEquals("Employee 99", names.get(0));
+        assertEquals(10, names.size());
+    }
+
+    @Test
+    void testHighestSalary_IsSingleIndexLookup() {
+        Integer highest = employeeRepository.findHighestSalary();
+        String plan = explain(capturedSelect());
+
+        assertTrue(plan.contains("direct lookup"), plan);
+        assertEquals(99_000, highest);
+    }
+
+    @Test
+    void testSearchByCandidateIds_UsesPrimaryKey() {
+        String plan =
+                explain("SELECT * FROM users WHERE id IN ('" + UUID.randomUUID() + "', '" + UUID.randomUUID() + "')");
+
+        assertTrue(plan.contains("PRIMARY_KEY"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    private static String capturedSelect() {
+        List<String> selects = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+        assertEquals(1, selects.size(), selects::toString);
+        return selects.get(0);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    /**
+     * Records every statement Hibernate prepares, unchanged. Hibernate creates it by class name.
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
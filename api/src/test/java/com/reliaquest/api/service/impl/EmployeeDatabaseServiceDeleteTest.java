@@ -0,0 +1,142 @@
+package com.reliaquest.api.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.HibernateCacheConfiguration;
+import com.reliaquest.api.model.entity.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs the single-statement deletes of {@link EmployeeDatabaseService} against H2 on the Flyway schema, with the
+ * second-level and query caches enabled. Each call commits on its own, as it does behind the endpoints.
+ */
+@DataJpaTest
+@Import({EmployeeDatabaseService.class, HibernateCacheConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeDatabaseServiceDeleteTest {
+
+    @Autowired
+    private EmployeeDatabaseService employeeDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testDeleteById_ReturnsRowAsItWas() {
+        Employee stored = insert(employee(1, 5000));
+
+        Employee deleted = employeeDao.deleteById(stored.getId()).orElseThrow();
+
+        assertEquals(stored, deleted);
+        assertEquals(0, count());
+    }
+
+    @Test
+    void testDeleteById_MissingIdDeletesNothing() {
+        insert(employee(1, 5000));
+
+        assertEquals(Optional.empty(), employeeDao.deleteById(UUID.randomUUID()));
+        assertEquals(1, count());
+    }
+
+    @Test
+    void testDeleteById_EvictsSecondLevelCache() {
+        Employee stored = insert(employee(1, 5000));
+        assertTrue(employeeDao.findById(stored.getId()).isPresent());
+        assertTrue(entityManagerFactory.getCache().contains(Employee.class, stored.getId()));
+
+        employeeDao.deleteById(stored.getId());
+
+        assertFalse(entityManagerFactory.getCache().contains(Employee.class, stored.getId()));
+        assertTrue(employeeDao.findById(stored.getId()).isEmpty());
+    }
+
+    @Test
+    void testDeleteById_EvictsCachedQueryResults() {
+        Employee highest = insert(employee(1, 9000));
+        insert(employee(2, 5000));
+        assertEquals(9000, employeeDao.findHighestSalary());
+
+        employeeDao.deleteById(highest.getId());
+
+        assertEquals(5000, employeeDao.findHighestSalary());
+    }
+
+    @Test
+    void testDeleteAllById_ReportsEachExistingRowOnce() {
+        Employee first = insert(employee(1, 5000));
+        Employee second = insert(employee(2, 6000));
+        Employee kept = insert(employee(3, 7000));
+
+        List<Employee> deleted = employeeDao.deleteAllById(
+                List.of(first.getId(), UUID.randomUUID(), second.getId(), first.getId()));
+
+        assertEquals(2, deleted.size());
+        assertTrue(deleted.containsAll(List.of(first, second)));
+        assertEquals(1, count());
+        assertTrue(employeeDao.findById(kept.getId()).isPresent());
+        assertTrue(employeeDao.findById(first.getId()).isEmpty());
+    }
+
+    @Test
+    void testDeleteAllById_SpansSeveralStatements() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            ids.add(insert(employee(i, 1000 + i)).getId());
+        }
+        ids.add(UUID.randomUUID());
+
+        List<Employee> deleted = employeeDao.deleteAllById(ids);
+
+        assertEquals(1_200, deleted.size());
+        assertEquals(0, count());
+    }
+
+    private Employee insert(Employee employee) {
+        jdbcTemplate.update(
+                "INSERT INTO users (id, name, salary, age, title, email) VALUES (?, ?, ?, ?, ?, ?)",
+                employee.getId(),
+                employee.getName(),
+                employee.getSalary(),
+                employee.getAge(),
+                employee.getTitle(),
+                employee.getEmail());
+        return employee;
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+    }
+
+    private static Employee employee(int number, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + number)
+                .salary(salary)
+                .age(30)
+                .title(number % 2 == 0 ? null : "Engineer")
+                .email("employee" + number + "@company.com")
+                .build();
+    }
+}
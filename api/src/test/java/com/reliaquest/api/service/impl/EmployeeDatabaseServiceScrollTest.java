@@ -0,0 +1,95 @@
+package com.reliaquest.api.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.HibernateCacheConfiguration;
+import com.reliaquest.api.model.entity.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs the streamed read of {@link EmployeeDatabaseService} against H2 with the second-level cache enabled, as
+ * streamed exports and the index rebuild at startup use it.
+ */
+@DataJpaTest
+@Import({EmployeeDatabaseService.class, HibernateCacheConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeDatabaseServiceScrollTest {
+
+    @Autowired
+    private EmployeeDatabaseService employeeDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testForEachEmployee_StreamsEveryRowOnce() {
+        List<UUID> ids = insert(1_200);
+
+        List<UUID> streamed = new ArrayList<>();
+        employeeDao.forEachEmployee(employee -> streamed.add(employee.getId()));
+
+        // H2 orders UUIDs by their unsigned bytes, not as UUID.compareTo does.
+        assertEquals(ids.size(), streamed.size());
+        assertEquals(new HashSet<>(ids), new HashSet<>(streamed));
+    }
+
+    @Test
+    void testForEachEmployee_LeavesSecondLevelCacheUntouched() {
+        List<UUID> ids = insert(1_200);
+
+        employeeDao.forEachEmployee(employee -> {});
+
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+        assertFalse(entityManagerFactory.getCache().contains(Employee.class, ids.get(0)));
+    }
+
+    private List<UUID> insert(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update(
+                    "INSERT INTO users (id, name, salary, age, title, email) VALUES (?, ?, ?, ?, ?, ?)",
+                    id,
+                    "Employee " + i,
+                    1000 + i,
+                    30,
+                    "Engineer",
+                    "employee" + i + "@company.com");
+            ids.add(id);
+        }
+        return ids;
+    }
+}
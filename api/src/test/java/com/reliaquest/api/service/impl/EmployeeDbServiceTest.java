@@ -87,6 +87,27 @@ class EmployeeDbServiceTest {
         assertEquals("John Doe", result.get(0).getName());
     }
 
+    @Test
+    void testSearchEmployee_ByNameIgnoresDefaultLocale() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        criteria.setName("INDIA");
+
+        when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+        when(cb.createQuery(Employee.class)).thenReturn(cq);
+        when(cq.from(Employee.class)).thenReturn(root);
+        when(entityManager.createQuery(cq)).thenReturn(typedQuery);
+        Locale defaultLocale = Locale.getDefault();
+        // Turkish lowercases "I" to a dotless "ı".
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            employeeDatabaseService.searchEmployee(criteria);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        verify(cb).like(any(), eq("%india%"));
+    }
+
     @Test
     void testSearchEmployee_NoCriteria() {
         EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
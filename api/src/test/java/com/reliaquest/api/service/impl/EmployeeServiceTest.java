@@ -3,26 +3,64 @@ package com.reliaquest.api.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeQueryCache;
+import com.reliaquest.api.cache.RequestCoalescer;
+import com.reliaquest.api.event.EmployeeChangedEvent;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.index.EmployeeIndexMaintainer;
+import com.reliaquest.api.index.NameTrigramIndex;
+import com.reliaquest.api.index.SalaryIndex;
 import com.reliaquest.api.mapper.EmployeeDtoToEmployeeEntityMapper;
+import com.reliaquest.api.model.BulkOperationResult;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.EmployeeSearchCriteria;
 import com.reliaquest.api.model.entity.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.Duration;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 
 class EmployeeServiceTest {
 
     @Mock
     private EmployeeDatabaseService employeeDao;
 
+    @Mock
+    private EmployeeWriteBehind employeeWriteBehind;
+
     @Mock
     private EmployeeDtoToEmployeeEntityMapper employeeMapper;
 
+    @Spy
+    private EmployeeQueryCache employeeQueryCache = new EmployeeQueryCache(1000, Duration.ofMinutes(5));
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
+    @Mock
+    private EmployeeIndexMaintainer employeeIndexes;
+
+    @Spy
+    private SalaryIndex salaryIndex = new SalaryIndex();
+
+    @Spy
+    private NameTrigramIndex nameTrigramIndex = new NameTrigramIndex(5000);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Validator validator;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -50,6 +88,113 @@ class EmployeeServiceTest {
         verify(employeeDao, times(1)).searchEmployee(criteria);
     }
 
+    @Test
+    void testSearchEmployee_ServedFromCache() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+        when(employeeDao.searchEmployee(criteria)).thenReturn(Collections.singletonList(employee));
+
+        employeeService.searchEmployee(criteria);
+        List<Employee> result = employeeService.searchEmployee(criteria);
+
+        assertEquals(1, result.size());
+        verify(employeeDao, times(1)).searchEmployee(criteria);
+    }
+
+    @Test
+    void testSearchEmployee_InvalidatedByMatchingCreate() {
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().name("john").build();
+        when(employeeDao.searchEmployee(criteria)).thenReturn(Collections.singletonList(employee));
+
+        employeeService.searchEmployee(criteria);
+        employeeQueryCache.onEmployeeChanged(EmployeeChangedEvent.created(employee));
+        employeeService.searchEmployee(criteria);
+
+        verify(employeeDao, times(2)).searchEmployee(criteria);
+    }
+
+    @Test
+    void testSearchEmployee_NotInvalidatedByUnrelatedCreate() {
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().name("jane").build();
+        when(employeeDao.searchEmployee(criteria)).thenReturn(Collections.emptyList());
+
+        employeeService.searchEmployee(criteria);
+        employeeQueryCache.onEmployeeChanged(EmployeeChangedEvent.created(employee));
+        employeeService.searchEmployee(criteria);
+
+        verify(employeeDao, times(1)).searchEmployee(criteria);
+    }
+
+    @Test
+    void testSearchEmployee_ByNameThroughTrigramIndex() {
+        when(employeeIndexes.isReady()).thenReturn(true);
+        nameTrigramIndex.add(employee);
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().name("DOE").build();
+        when(employeeDao.searchEmployee(criteria, Set.of(employee.getId()))).thenReturn(List.of(employee));
+
+        List<Employee> result = employeeService.searchEmployee(criteria);
+
+        assertEquals(List.of(employee), result);
+        verify(employeeDao, never()).searchEmployee(criteria);
+    }
+
+    @Test
+    void testSearchEmployee_NoTrigramMatchSkipsDatabase() {
+        when(employeeIndexes.isReady()).thenReturn(true);
+        nameTrigramIndex.add(employee);
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().name("smith").build();
+
+        List<Employee> result = employeeService.searchEmployee(criteria);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(employeeDao);
+    }
+
+    @Test
+    void testSearchEmployee_ShortNameFallsBackToScan() {
+        when(employeeIndexes.isReady()).thenReturn(true);
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().name("jo").build();
+        when(employeeDao.searchEmployee(criteria)).thenReturn(List.of(employee));
+
+        List<Employee> result = employeeService.searchEmployee(criteria);
+
+        assertEquals(1, result.size());
+        verify(employeeDao, times(1)).searchEmployee(criteria);
+    }
+
+    @Test
+    void testSearchEmployeePage_ReturnsCursorWhenMoreRowsFollow() {
+        Employee second = Employee.builder().id(UUID.randomUUID()).name("Jane Doe").build();
+        Employee third = Employee.builder().id(UUID.randomUUID()).name("Jim Doe").build();
+        EmployeeSearchCriteria firstPage = EmployeeSearchCriteria.builder().limit(3).build();
+        when(employeeDao.searchEmployee(firstPage)).thenReturn(List.of(employee, second, third));
+
+        EmployeePage page = employeeService.searchEmployeePage(new EmployeeSearchCriteria(), null, 2);
+
+        assertEquals(List.of(employee, second), page.employees());
+        assertNotNull(page.nextCursor());
+
+        EmployeeSearchCriteria nextPage =
+                EmployeeSearchCriteria.builder().afterId(second.getId()).limit(3).build();
+        when(employeeDao.searchEmployee(nextPage)).thenReturn(List.of(third));
+
+        EmployeePage last = employeeService.searchEmployeePage(new EmployeeSearchCriteria(), page.nextCursor(), 2);
+
+        assertEquals(List.of(third), last.employees());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void testSearchEmployeePage_RejectsCursorFromAnotherSearch() {
+        EmployeeSearchCriteria byName = EmployeeSearchCriteria.builder().name("john").build();
+        when(employeeDao.searchEmployee(any())).thenReturn(List.of(employee, employee));
+
+        String cursor = employeeService.searchEmployeePage(byName, null, 1).nextCursor();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> employeeService.searchEmployeePage(new EmployeeSearchCriteria(), cursor, 1));
+    }
+
     @Test
     void testSearchHighestSalaryEmployeeName() {
         List<String> names = Arrays.asList("John Doe", "Jane Smith");
@@ -82,6 +227,36 @@ class EmployeeServiceTest {
         verify(employeeDao, times(1)).findHighestSalary();
     }
 
+    @Test
+    void testSearchHighestSalaryEmployeeName_FromIndex() {
+        when(employeeIndexes.isReady()).thenReturn(true);
+        salaryIndex.add(employee);
+
+        List<String> result = employeeService.searchHighestSalaryEmployeeName();
+
+        assertEquals(List.of("John Doe"), result);
+        verify(employeeDao, never()).findTop10EmployeesBySalary();
+    }
+
+    @Test
+    void testGetHighestSalary_FromIndex() {
+        when(employeeIndexes.isReady()).thenReturn(true);
+        salaryIndex.add(employee);
+
+        Integer result = employeeService.getHighestSalary();
+
+        assertEquals(5000, result);
+        verify(employeeDao, never()).findHighestSalary();
+    }
+
+    @Test
+    void testGetHighestSalary_FromEmptyIndex() {
+        when(employeeIndexes.isReady()).thenReturn(true);
+
+        assertEquals(0, employeeService.getHighestSalary());
+        verify(employeeDao, never()).findHighestSalary();
+    }
+
     @Test
     void testCreateEmployee() {
         EmployeeDTO dto = new EmployeeDTO();
@@ -95,6 +270,80 @@ class EmployeeServiceTest {
         assertNotNull(result);
         assertEquals("John Doe", result.getName());
         verify(employeeDao, times(1)).save(employee);
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.created(employee));
+    }
+
+    @Test
+    void testCreateEmployee_GroupCommit() {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setName("John Doe");
+        dto.setSalary(5000);
+
+        when(employeeMapper.mapEmployeeDtoToEmployee(dto)).thenReturn(employee);
+        when(employeeWriteBehind.isEnabled()).thenReturn(true);
+        when(employeeWriteBehind.create(employee)).thenReturn(employee);
+
+        assertSame(employee, employeeService.createEmployee(dto));
+        verify(employeeDao, never()).save(any());
+        // The writer publishes the event once the group has committed.
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateEmployees_ReportsEachItem() {
+        EmployeeDTO valid = EmployeeDTO.builder().name("John Doe").build();
+        EmployeeDTO invalid = EmployeeDTO.builder().name("").build();
+        ConstraintViolation<EmployeeDTO> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Name must not be blank");
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+        when(employeeMapper.mapEmployeeDtoToEmployee(valid)).thenReturn(employee);
+
+        List<BulkOperationResult> results = employeeService.createEmployees(Arrays.asList(valid, invalid, null));
+
+        assertEquals(BulkOperationResult.created(0, employee.getId()), results.get(0));
+        assertEquals(BulkOperationResult.Status.INVALID, results.get(1).status());
+        assertTrue(results.get(1).error().contains("Name must not be blank"));
+        assertEquals(BulkOperationResult.Status.INVALID, results.get(2).status());
+        verify(employeeDao, times(1)).saveAll(List.of(employee));
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.created(employee));
+    }
+
+    @Test
+    void testCreateEmployees_FailedChunkMarksItemsFailed() {
+        EmployeeDTO dto = EmployeeDTO.builder().name("John Doe").build();
+        when(employeeMapper.mapEmployeeDtoToEmployee(dto)).thenReturn(employee);
+        doThrow(new RuntimeException("DB error")).when(employeeDao).saveAll(any());
+
+        List<BulkOperationResult> results = employeeService.createEmployees(List.of(dto));
+
+        assertEquals(BulkOperationResult.failed(0, "DB error"), results.get(0));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testGetEmployeeById_UsesPrimaryKeyLookup() {
+        when(employeeDao.findById(employee.getId())).thenReturn(Optional.of(employee));
+
+        Employee result = employeeService.getEmployeeById(employee.getId().toString());
+
+        assertSame(employee, result);
+        verify(employeeDao, never()).searchEmployee(any());
+    }
+
+    @Test
+    void testGetEmployeeById_NotFound() {
+        UUID id = UUID.randomUUID();
+        when(employeeDao.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(id.toString()));
+    }
+
+    @Test
+    void testGetEmployeeById_InvalidUUID() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeeById("invalid-uuid"));
+
+        verify(employeeDao, never()).findById(any());
     }
 
     @Test
@@ -104,25 +353,27 @@ class EmployeeServiceTest {
         emp.setId(id);
         emp.setName("John Doe");
 
-        when(employeeDao.findById(id)).thenReturn(Optional.of(emp));
+        when(employeeDao.deleteById(id)).thenReturn(Optional.of(emp));
 
         String result = employeeService.deleteEmployee(id.toString());
 
         assertEquals("John Doe", result);
-        verify(employeeDao, times(1)).delete(emp);
+        verify(employeeDao, never()).findById(any());
+        verify(employeeDao, never()).delete(any());
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.deleted(emp));
     }
 
     @Test
     void testDeleteEmployee_NotFound() {
         UUID id = UUID.randomUUID();
-        when(employeeDao.findById(id)).thenReturn(Optional.empty());
+        when(employeeDao.deleteById(id)).thenReturn(Optional.empty());
 
         String finalId = id.toString();
         EmployeeNotFoundException exception =
                 assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployee(finalId));
 
         assertEquals("Employee not found with ID: " + finalId, exception.getMessage());
-        verify(employeeDao, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -131,17 +382,48 @@ class EmployeeServiceTest {
 
         assertThrows(IllegalArgumentException.class, () -> employeeService.deleteEmployee(invalidId));
 
-        verify(employeeDao, never()).delete(any());
+        verify(employeeDao, never()).deleteById(any());
     }
 
     @Test
     void testDeleteEmployee_ExceptionHandled() {
         UUID id = UUID.randomUUID();
-        when(employeeDao.findById(id)).thenThrow(new RuntimeException("DB error"));
+        when(employeeDao.deleteById(id)).thenThrow(new RuntimeException("DB error"));
 
         RuntimeException ex = assertThrows(RuntimeException.class, () -> employeeService.deleteEmployee(id.toString()));
 
         assertEquals("DB error", ex.getMessage());
-        verify(employeeDao, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteEmployees_ReportsEachId() {
+        Employee existing = new Employee();
+        existing.setId(UUID.randomUUID());
+        existing.setName("John Doe");
+        UUID missing = UUID.randomUUID();
+        when(employeeDao.deleteAllById(any())).thenReturn(List.of(existing));
+
+        List<BulkOperationResult> results = employeeService.deleteEmployees(
+                List.of(existing.getId().toString(), "invalid-uuid", missing.toString(), existing.getId().toString()));
+
+        assertEquals(BulkOperationResult.deleted(0, existing.getId()), results.get(0));
+        assertEquals(BulkOperationResult.Status.INVALID, results.get(1).status());
+        assertEquals(BulkOperationResult.notFound(2, missing), results.get(2));
+        assertEquals(BulkOperationResult.notFound(3, existing.getId()), results.get(3));
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.deleted(existing));
+    }
+
+    @Test
+    void testDeleteEmployees_FailureFailsAllValidIds() {
+        when(employeeDao.deleteAllById(any())).thenThrow(new RuntimeException("DB error"));
+
+        List<BulkOperationResult> results =
+                employeeService.deleteEmployees(List.of(UUID.randomUUID().toString(), "invalid-uuid"));
+
+        assertEquals(BulkOperationResult.Status.FAILED, results.get(0).status());
+        assertEquals("DB error", results.get(0).error());
+        assertEquals(BulkOperationResult.Status.INVALID, results.get(1).status());
+        verifyNoInteractions(eventPublisher);
     }
 }
@@ -0,0 +1,226 @@
+package com.reliaquest.api.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.exception.WriteBufferFullException;
+import com.reliaquest.api.model.entity.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+class EmployeeWriteBehindTest {
+
+    private EmployeeDatabaseService employeeDao;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeWriteBehind writeBehind;
+
+    // Lets a test hold the writer inside its first group commit.
+    private final CountDownLatch firstGroupStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstGroup = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        employeeDao = mock(EmployeeDatabaseService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseFirstGroup.countDown();
+        if (writeBehind != null) {
+            writeBehind.destroy();
+        }
+    }
+
+    @Test
+    void testSubmit_CommitsConcurrentCreatesAsOneGroup() throws Exception {
+        writeBehind = start(100, 500);
+        blockFirstGroup();
+
+        CompletableFuture<Employee> first = writeBehind.submit(employee("First"));
+        assertTrue(firstGroupStarted.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Employee>> waiting = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            waiting.add(writeBehind.submit(employee("Waiting " + i)));
+        }
+        assertFalse(waiting.get(0).isDone());
+        releaseFirstGroup.countDown();
+
+        assertEquals("First", first.get(5, TimeUnit.SECONDS).getName());
+        for (CompletableFuture<Employee> created : waiting) {
+            assertNotNull(created.get(5, TimeUnit.SECONDS));
+        }
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Employee>> groups = ArgumentCaptor.forClass(List.class);
+        verify(employeeDao, times(2)).saveAll(groups.capture());
+        assertEquals(1, groups.getAllValues().get(0).size());
+        assertEquals(3, groups.getAllValues().get(1).size());
+        verify(eventPublisher, times(4)).publishEvent(any(EmployeeChangedEvent.class));
+        assertEquals(2, meterRegistry.get("employee.write-behind.group.size").summary().count());
+    }
+
+    @Test
+    void testSubmit_SplitsBacklogIntoMaxGroupSize() throws Exception {
+        writeBehind = start(100, 2);
+        blockFirstGroup();
+
+        writeBehind.submit(employee("First"));
+        assertTrue(firstGroupStarted.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Employee>> waiting = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            waiting.add(writeBehind.submit(employee("Waiting " + i)));
+        }
+        releaseFirstGroup.countDown();
+        CompletableFuture.allOf(waiting.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Employee>> groups = ArgumentCaptor.forClass(List.class);
+        verify(employeeDao, times(4)).saveAll(groups.capture());
+        assertTrue(groups.getAllValues().stream().allMatch(group -> group.size() <= 2));
+    }
+
+    @Test
+    void testSubmit_RejectsWhenBufferStaysFull() throws Exception {
+        writeBehind = start(1, 500);
+        blockFirstGroup();
+
+        CompletableFuture<Employee> first = writeBehind.submit(employee("First"));
+        assertTrue(firstGroupStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Employee> buffered = writeBehind.submit(employee("Buffered"));
+
+        assertThrows(WriteBufferFullException.class, () -> writeBehind.submit(employee("Rejected")));
+
+        releaseFirstGroup.countDown();
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        assertNotNull(buffered.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCreate_FailedCreateFailsItsCaller() {
+        writeBehind = start(100, 500);
+        doThrow(new IllegalStateException("database unavailable")).when(employeeDao).saveAll(anyList());
+
+        assertThrows(IllegalStateException.class, () -> writeBehind.create(employee("Lost")));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testSubmit_FailedGroupFailsOnlyTheOffendingCreate() throws Exception {
+        writeBehind = start(100, 500);
+        // Like persist: assigns ids as it goes, refuses employees that already have one, and rolls back on a bad row.
+        // The first group is held until the rest are buffered.
+        doAnswer(invocation -> {
+                    if (firstGroupStarted.getCount() > 0) {
+                        firstGroupStarted.countDown();
+                        releaseFirstGroup.await(5, TimeUnit.SECONDS);
+                    }
+                    List<Employee> employees = invocation.getArgument(0);
+                    for (Employee employee : employees) {
+                        if (employee.getId() != null) {
+                            throw new IllegalStateException("detached entity passed to persist");
+                        }
+                        employee.setId(UUID.randomUUID());
+                    }
+                    if (employees.stream().anyMatch(employee -> employee.getName().equals("Bad"))) {
+                        throw new IllegalStateException("value too long for column email");
+                    }
+                    return null;
+                })
+                .when(employeeDao)
+                .saveAll(anyList());
+
+        CompletableFuture<Employee> first = writeBehind.submit(employee("First"));
+        assertTrue(firstGroupStarted.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Employee>> group = new ArrayList<>();
+        for (String name : List.of("A", "B", "Bad", "C", "D")) {
+            group.add(writeBehind.submit(employee(name)));
+        }
+        releaseFirstGroup.countDown();
+
+        assertNotNull(first.get(5, TimeUnit.SECONDS).getId());
+        ExecutionException failed = assertThrows(ExecutionException.class, () -> group.get(2).get(5, TimeUnit.SECONDS));
+        assertEquals("value too long for column email", failed.getCause().getMessage());
+        for (int i : List.of(0, 1, 3, 4)) {
+            assertNotNull(group.get(i).get(5, TimeUnit.SECONDS).getId());
+        }
+        ArgumentCaptor<EmployeeChangedEvent> events = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+        verify(eventPublisher, times(5)).publishEvent(events.capture());
+        assertEquals(
+                List.of("First", "A", "B", "C", "D"),
+                events.getAllValues().stream().map(event -> event.employee().getName()).toList());
+    }
+
+    @Test
+    void testDestroy_CommitsBufferedCreates() throws Exception {
+        writeBehind = start(100, 500);
+        blockFirstGroup();
+
+        CompletableFuture<Employee> first = writeBehind.submit(employee("First"));
+        assertTrue(firstGroupStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Employee> buffered = writeBehind.submit(employee("Buffered"));
+        releaseFirstGroup.countDown();
+        writeBehind.destroy();
+
+        assertTrue(first.isDone());
+        assertEquals("Buffered", buffered.get().getName());
+        assertThrows(IllegalStateException.class, () -> writeBehind.submit(employee("Late")));
+    }
+
+    @Test
+    void testSubmit_DirectModeDoesNotBuffer() {
+        writeBehind = new EmployeeWriteBehind(
+                employeeDao, eventPublisher, meterRegistry, "direct", 100, 500, Duration.ofMillis(10));
+
+        assertFalse(writeBehind.isEnabled());
+        assertThrows(IllegalStateException.class, () -> writeBehind.submit(employee("Direct")));
+    }
+
+    @Test
+    void testConstructor_RejectsUnknownWriteMode() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new EmployeeWriteBehind(
+                        employeeDao, eventPublisher, meterRegistry, "async", 100, 500, Duration.ofMillis(10)));
+    }
+
+    private EmployeeWriteBehind start(int capacity, int maxGroupSize) {
+        return new EmployeeWriteBehind(
+                employeeDao,
+                eventPublisher,
+                meterRegistry,
+                "group-commit",
+                capacity,
+                maxGroupSize,
+                Duration.ofMillis(50));
+    }
+
+    private void blockFirstGroup() {
+        doAnswer(invocation -> {
+                    firstGroupStarted.countDown();
+                    releaseFirstGroup.await(5, TimeUnit.SECONDS);
+                    return null;
+                })
+                .doNothing()
+                .when(employeeDao)
+                .saveAll(anyList());
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().name(name).salary(1000).age(30).build();
+    }
+}
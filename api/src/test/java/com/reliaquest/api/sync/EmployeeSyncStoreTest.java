@@ -0,0 +1,237 @@
+package com.reliaquest.api.sync;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.HibernateCacheConfiguration;
+import com.reliaquest.api.client.MockEmployeeClient;
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.model.upstream.UpstreamEmployee;
+import com.reliaquest.api.service.impl.EmployeeDatabaseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs {@link EmployeeSync} cycles against H2 on the Flyway schema, so the staging, diff and batched writes of
+ * {@link EmployeeSyncStore} execute for real. Only the upstream list is stubbed.
+ */
+@DataJpaTest
+@Import({EmployeeSyncStore.class, EmployeeDatabaseService.class, HibernateCacheConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeSyncStoreTest {
+
+    @Autowired
+    private EmployeeSyncStore syncStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockEmployeeClient mockEmployeeClient;
+    private List<EmployeeChangedEvent> events;
+    private int failOnEvent;
+    private EmployeeSync employeeSync;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeClient = mock(MockEmployeeClient.class);
+        events = new ArrayList<>();
+        failOnEvent = -1;
+        employeeSync = new EmployeeSync(
+                mockEmployeeClient,
+                syncStore,
+                event -> {
+                    if (events.size() == failOnEvent) {
+                        throw new IllegalStateException("Listener failed");
+                    }
+                    events.add((EmployeeChangedEvent) event);
+                },
+                new SimpleMeterRegistry(),
+                false,
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(30),
+                2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeSync.destroy();
+        jdbcTemplate.update("DELETE FROM users_sync_staging");
+        jdbcTemplate.update("DELETE FROM users_sync_state");
+        jdbcTemplate.update("DELETE FROM users");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testSync_SecondCycleAppliesOnlyWhatChanged() {
+        UpstreamEmployee kept = upstreamEmployee("A", 1000);
+        UpstreamEmployee changed = upstreamEmployee("B", 2000);
+        UpstreamEmployee removed = upstreamEmployee("C", 3000);
+        UUID local = insertLocal("Local", 4000);
+        upstream(kept, changed, removed);
+
+        EmployeeSyncStatus first = employeeSync.sync();
+
+        assertNull(first.lastError());
+        assertEquals(3, first.inserted());
+        assertEquals(0, first.deleted());
+        assertEquals(Map.of(kept.getId(), 1000, changed.getId(), 2000, removed.getId(), 3000, local, 4000), rows());
+        assertEquals(3, stateCount());
+        assertEquals(0, stagingCount());
+        long keptHash = stateHash(kept.getId());
+
+        UpstreamEmployee raised = upstreamEmployee("B", 2500);
+        UpstreamEmployee added = upstreamEmployee("D", 5000);
+        upstream(kept, raised, added);
+        events.clear();
+
+        EmployeeSyncStatus second = employeeSync.sync();
+
+        assertNull(second.lastError());
+        assertEquals(3, second.fetched());
+        assertEquals(2, second.inserted());
+        assertEquals(2, second.deleted());
+        assertEquals(Map.of(kept.getId(), 1000, changed.getId(), 2500, added.getId(), 5000, local, 4000), rows());
+        assertEquals(keptHash, stateHash(kept.getId()));
+        assertEquals(3, stateCount());
+        assertEquals(0, stagingCount());
+        assertTrue(events.stream().noneMatch(event -> kept.getId().equals(event.employee().getId())));
+        assertTrue(events.stream().noneMatch(event -> local.equals(event.employee().getId())));
+        assertEquals(
+                List.of(EmployeeChangedEvent.Type.DELETED, EmployeeChangedEvent.Type.DELETED),
+                events.stream().limit(2).map(EmployeeChangedEvent::type).toList());
+    }
+
+    @Test
+    void testSync_LocalRowWithUpstreamIdIsLeftAlone() {
+        UpstreamEmployee upstream = upstreamEmployee("A", 1000);
+        jdbcTemplate.update(
+                "INSERT INTO users (id, name, salary, age, title, email) VALUES (?, ?, ?, ?, ?, ?)",
+                upstream.getId(),
+                "Created through the api",
+                7000,
+                40,
+                "Manager",
+                "api@company.com");
+        upstream(upstream);
+
+        EmployeeSyncStatus status = employeeSync.sync();
+
+        assertNull(status.lastError());
+        assertEquals(0, status.inserted());
+        assertEquals(0, status.deleted());
+        assertEquals(Map.of(upstream.getId(), 7000), rows());
+        assertEquals(0, stateCount());
+    }
+
+    @Test
+    void testSync_ResumesAfterPartiallyAppliedCycle() {
+        List<UpstreamEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            employees.add(upstreamEmployee("E" + i, 1000 + i));
+        }
+        upstream(employees.toArray(UpstreamEmployee[]::new));
+        failOnEvent = 1;
+
+        EmployeeSyncStatus failed = employeeSync.sync();
+
+        assertEquals("Listener failed", failed.lastError());
+        assertNull(failed.lastSucceededAt());
+        assertEquals(2, rows().size());
+        assertEquals(2, stateCount());
+
+        failOnEvent = -1;
+        events.clear();
+
+        EmployeeSyncStatus resumed = employeeSync.sync();
+
+        assertNull(resumed.lastError());
+        assertEquals(3, resumed.inserted());
+        assertEquals(0, resumed.deleted());
+        assertEquals(5, rows().size());
+        assertEquals(5, stateCount());
+        assertEquals(0, stagingCount());
+        assertEquals(3, events.size());
+    }
+
+    @Test
+    void testSync_EmptyUpstreamListKeepsCopiedRows() {
+        upstream(upstreamEmployee("A", 1000));
+        employeeSync.sync();
+        upstream();
+
+        EmployeeSyncStatus status = employeeSync.sync();
+
+        assertNotNull(status.lastError());
+        assertEquals(1, rows().size());
+        assertEquals(1, stateCount());
+    }
+
+    private void upstream(UpstreamEmployee... employees) {
+        doAnswer(invocation -> {
+                    Consumer<UpstreamEmployee> action = invocation.getArgument(0);
+                    List.of(employees).forEach(action);
+                    return (long) employees.length;
+                })
+                .when(mockEmployeeClient)
+                .forEachEmployee(any());
+    }
+
+    private UUID insertLocal(String name, int salary) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+                "INSERT INTO users (id, name, salary, age, title, email) VALUES (?, ?, ?, ?, ?, ?)",
+                id,
+                name,
+                salary,
+                30,
+                null,
+                name.toLowerCase() + "@company.com");
+        return id;
+    }
+
+    private Map<UUID, Integer> rows() {
+        return jdbcTemplate.query("SELECT id, salary FROM users", rs -> {
+            Map<UUID, Integer> rows = new HashMap<>();
+            while (rs.next()) {
+                rows.put(rs.getObject("id", UUID.class), rs.getInt("salary"));
+            }
+            return rows;
+        });
+    }
+
+    private long stateHash(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT content_hash FROM users_sync_state WHERE id = ?", Long.class, id);
+    }
+
+    private int stateCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users_sync_state", Integer.class);
+    }
+
+    private int stagingCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users_sync_staging", Integer.class);
+    }
+
+    private static UpstreamEmployee upstreamEmployee(String name, int salary) {
+        return new UpstreamEmployee(
+                UUID.nameUUIDFromBytes(name.getBytes()), name, salary, 30, "Engineer", name + "@company.com");
+    }
+}
@@ -0,0 +1,233 @@
+package com.reliaquest.api.sync;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.MockEmployeeClient;
+import com.reliaquest.api.event.EmployeeChangedEvent;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.model.entity.Employee;
+import com.reliaquest.api.model.upstream.UpstreamEmployee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+class EmployeeSyncTest {
+
+    private MockEmployeeClient mockEmployeeClient;
+    private EmployeeSyncStore syncStore;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeSync employeeSync;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeClient = mock(MockEmployeeClient.class);
+        syncStore = mock(EmployeeSyncStore.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        employeeSync = new EmployeeSync(
+                mockEmployeeClient,
+                syncStore,
+                eventPublisher,
+                meterRegistry,
+                false,
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(30),
+                2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeSync.destroy();
+    }
+
+    @Test
+    void testSync_StagesInBatchesAndAppliesDeletesBeforeInserts() {
+        upstream(upstreamEmployee("A"), upstreamEmployee("B"), upstreamEmployee("C"));
+        Employee gone = Employee.builder().id(UUID.randomUUID()).name("Gone").build();
+        when(syncStore.findStale(2)).thenReturn(List.of(gone.getId()), List.of());
+        when(syncStore.delete(List.of(gone.getId()))).thenReturn(List.of(gone));
+        EmployeeSyncStore.StagedEmployee first = staged("A");
+        EmployeeSyncStore.StagedEmployee second = staged("B");
+        EmployeeSyncStore.StagedEmployee third = staged("C");
+        when(syncStore.findMissing(null, 2)).thenReturn(List.of(first, second));
+        when(syncStore.findMissing(second.employee().getId(), 2)).thenReturn(List.of(third));
+        when(syncStore.findMissing(third.employee().getId(), 2)).thenReturn(List.of());
+
+        EmployeeSyncStatus status = employeeSync.sync();
+
+        assertNull(status.lastError());
+        assertNotNull(status.lastSucceededAt());
+        assertFalse(status.running());
+        assertEquals(3, status.fetched());
+        assertEquals(3, status.inserted());
+        assertEquals(1, status.deleted());
+
+        InOrder order = inOrder(syncStore);
+        order.verify(syncStore).clearStaging();
+        order.verify(syncStore, times(2)).stage(anyList());
+        order.verify(syncStore).delete(List.of(gone.getId()));
+        order.verify(syncStore).insert(List.of(first, second));
+        order.verify(syncStore).insert(List.of(third));
+        order.verify(syncStore).clearStaging();
+
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.deleted(gone));
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.created(third.employee()));
+        verify(eventPublisher, times(4)).publishEvent(any(EmployeeChangedEvent.class));
+        assertEquals(3.0, meterRegistry.get("employee.sync.rows").tag("change", "inserted").counter().count());
+    }
+
+    @Test
+    void testSync_EmptyUpstreamListDeletesNothing() {
+        upstream();
+
+        EmployeeSyncStatus status = employeeSync.sync();
+
+        assertNotNull(status.lastError());
+        assertNull(status.lastSucceededAt());
+        verify(syncStore, never()).findStale(anyInt());
+        verify(syncStore, never()).delete(anyList());
+    }
+
+    @Test
+    void testSync_FailureIsReportedAndNextCycleRuns() {
+        when(mockEmployeeClient.forEachEmployee(any()))
+                .thenThrow(new UpstreamUnavailableException("Upstream rate limit exhausted", Duration.ofSeconds(30)));
+
+        EmployeeSyncStatus failed = employeeSync.sync();
+
+        assertEquals("Upstream rate limit exhausted", failed.lastError());
+        assertFalse(failed.running());
+        assertEquals(1, meterRegistry.get("employee.sync.duration").tag("outcome", "failure").timer().count());
+
+        upstream(upstreamEmployee("A"));
+        when(syncStore.findStale(2)).thenReturn(List.of());
+        when(syncStore.findMissing(null, 2)).thenReturn(List.of());
+
+        EmployeeSyncStatus recovered = employeeSync.sync();
+
+        assertNull(recovered.lastError());
+        assertNotNull(recovered.lastSucceededAt());
+    }
+
+    @Test
+    void testTrigger_AcceptsOneCycleAtATime() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockEmployeeClient.forEachEmployee(any())).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await();
+            return 0L;
+        });
+
+        assertTrue(employeeSync.trigger());
+        assertFalse(employeeSync.trigger());
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+        assertFalse(employeeSync.trigger());
+        assertTrue(employeeSync.status().running());
+
+        release.countDown();
+        for (int i = 0; i < 500 && employeeSync.status().running(); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(employeeSync.status().running());
+        verify(mockEmployeeClient, times(1)).forEachEmployee(any());
+        assertTrue(employeeSync.trigger());
+    }
+
+    @Test
+    void testTrigger_ConcurrentCallersStartOneCycle() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockEmployeeClient.forEachEmployee(any())).thenAnswer(invocation -> {
+            release.await();
+            return 0L;
+        });
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> accepted = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                accepted.add(pool.submit(() -> {
+                    start.await();
+                    return employeeSync.trigger();
+                }));
+            }
+            start.countDown();
+            int started = 0;
+            for (Future<Boolean> future : accepted) {
+                started += future.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(1, started);
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTrigger_RejectedAfterShutdown() {
+        employeeSync.destroy();
+
+        assertFalse(employeeSync.trigger());
+        assertFalse(employeeSync.status().running());
+    }
+
+    @Test
+    void testContentHash_DiffersWhenAnyFieldChanges() {
+        UpstreamEmployee employee = upstreamEmployee("A");
+        long hash = EmployeeSyncStore.contentHash(employee);
+
+        assertEquals(hash, EmployeeSyncStore.contentHash(upstreamEmployee("A")));
+        employee.setSalary(employee.getSalary() + 1);
+        assertNotEquals(hash, EmployeeSyncStore.contentHash(employee));
+
+        UpstreamEmployee shifted = upstreamEmployee("A");
+        shifted.setTitle(null);
+        UpstreamEmployee empty = upstreamEmployee("A");
+        empty.setTitle("");
+        assertNotEquals(EmployeeSyncStore.contentHash(shifted), EmployeeSyncStore.contentHash(empty));
+    }
+
+    private void upstream(UpstreamEmployee... employees) {
+        doAnswer(invocation -> {
+                    Consumer<UpstreamEmployee> action = invocation.getArgument(0);
+                    List.of(employees).forEach(action);
+                    return (long) employees.length;
+                })
+                .when(mockEmployeeClient)
+                .forEachEmployee(any());
+    }
+
+    private static UpstreamEmployee upstreamEmployee(String name) {
+        return new UpstreamEmployee(
+                UUID.nameUUIDFromBytes(name.getBytes()), name, 1000, 30, "Engineer", name + "@company.com");
+    }
+
+    private static EmployeeSyncStore.StagedEmployee staged(String name) {
+        UpstreamEmployee upstream = upstreamEmployee(name);
+        Employee employee = Employee.builder()
+                .id(upstream.getId())
+                .name(name)
+                .salary(upstream.getSalary())
+                .age(upstream.getAge())
+                .title(upstream.getTitle())
+                .email(upstream.getEmail())
+                .build();
+        return new EmployeeSyncStore.StagedEmployee(employee, EmployeeSyncStore.contentHash(upstream));
+    }
+}
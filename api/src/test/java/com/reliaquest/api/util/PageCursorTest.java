@@ -0,0 +1,35 @@
+package com.reliaquest.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    private static final UUID LAST = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+    @Test
+    void testDecode_RoundTripsForSameScope() {
+        String cursor = PageCursor.encode(LAST, "name=john&limit=50");
+
+        assertEquals(LAST, PageCursor.decode(cursor, "name=john&limit=50"));
+        assertNull(PageCursor.decode(null, "name=john&limit=50"));
+        assertNull(PageCursor.decode(" ", "name=john&limit=50"));
+    }
+
+    @Test
+    void testDecode_RejectsScopeWithCollidingHashCode() {
+        // "Aa" and "BB" share a String hash code, so a hash-code fingerprint could not tell them apart.
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        String cursor = PageCursor.encode(LAST, "Aa");
+
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(cursor, "BB"));
+    }
+
+    @Test
+    void testDecode_RejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor", "scope"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("bm8tc2VwYXJhdG9y", "scope"));
+    }
+}
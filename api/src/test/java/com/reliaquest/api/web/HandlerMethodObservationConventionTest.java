@@ -0,0 +1,48 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class HandlerMethodObservationConventionTest {
+
+    private final HandlerMethodObservationConvention convention = new HandlerMethodObservationConvention();
+
+    @Test
+    void testLowCardinalityKeyValues_TagsControllerMethod() throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setAttribute(
+                HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new SampleController(), SampleController.class.getMethod("getEmployeesPage")));
+
+        assertEquals(
+                KeyValue.of("handler", "SampleController.getEmployeesPage"),
+                handlerTag(new ServerRequestObservationContext(request, new MockHttpServletResponse())));
+    }
+
+    @Test
+    void testLowCardinalityKeyValues_NoneWithoutHandlerMethod() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/missing");
+
+        assertEquals(
+                KeyValue.of("handler", "none"),
+                handlerTag(new ServerRequestObservationContext(request, new MockHttpServletResponse())));
+    }
+
+    private KeyValue handlerTag(ServerRequestObservationContext context) {
+        return convention.getLowCardinalityKeyValues(context).stream()
+                .filter(keyValue -> keyValue.getKey().equals(HandlerMethodObservationConvention.HANDLER_KEY))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    static class SampleController {
+        public void getEmployeesPage() {}
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.index.ColumnarEmployeeSnapshot;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.SalaryAggregate;
+import com.reliaquest.api.model.entity.Employee;
+import java.util.Comparator;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Range-filtered salary statistics and top-N over {@code size} employees: scanning hydrated {@link Employee}
+ * entities versus the {@link ColumnarEmployeeSnapshot}. Run with {@code -Pjmh.profilers=gc} to compare
+ * allocation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalyticsScanBenchmark {
+
+    private static final EmployeeFilter FILTER = new EmployeeFilter(30, 45, 100_000, null, "Engineer");
+    private static final Predicate<Employee> MATCHES = employee -> employee.getAge() >= 30
+            && employee.getAge() <= 45
+            && employee.getSalary() >= 100_000
+            && employee.getTitle().equals("Engineer");
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Employee> entities;
+    private ColumnarEmployeeSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = Datasets.employees(size);
+        entities.forEach(employee -> employee.setId(UUID.randomUUID()));
+        snapshot = new ColumnarEmployeeSnapshot();
+        entities.forEach(snapshot::add);
+    }
+
+    @Benchmark
+    public IntSummaryStatistics entitySalaryStatistics() {
+        return entities.stream().filter(MATCHES).mapToInt(Employee::getSalary).summaryStatistics();
+    }
+
+    @Benchmark
+    public SalaryAggregate columnarSalaryStatistics() {
+        return snapshot.salary(FILTER);
+    }
+
+    @Benchmark
+    public List<String> entityTopTen() {
+        return entities.stream()
+                .filter(MATCHES)
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> columnarTopTen() {
+        return snapshot.topNames(10, FILTER);
+    }
+}
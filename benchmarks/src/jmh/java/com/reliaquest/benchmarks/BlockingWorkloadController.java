@@ -0,0 +1,31 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.EmployeeSearchCriteria;
+import com.reliaquest.api.model.entity.Employee;
+import com.reliaquest.api.service.impl.EmployeeDatabaseService;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoint added to the api context by {@link ExecutorModelBenchmark}: it waits {@code latencyMillis}, standing in
+ * for a remote database or upstream round trip, and then runs a real id lookup against the seeded table.
+ */
+@RestController
+public class BlockingWorkloadController {
+
+    private final EmployeeDatabaseService employeeDao;
+
+    public BlockingWorkloadController(EmployeeDatabaseService employeeDao) {
+        this.employeeDao = employeeDao;
+    }
+
+    @GetMapping("/benchmark/blocking/{id}")
+    public List<Employee> lookup(@PathVariable String id, @RequestParam int latencyMillis)
+            throws InterruptedException {
+        Thread.sleep(latencyMillis);
+        return employeeDao.searchEmployee(EmployeeSearchCriteria.builder().id(id).build());
+    }
+}
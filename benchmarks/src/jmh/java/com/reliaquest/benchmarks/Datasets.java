@@ -0,0 +1,115 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.entity.Employee;
+import com.reliaquest.api.service.impl.EmployeeDatabaseService;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Deterministic datasets and application contexts shared by the benchmarks, so runs before and after a change
+ * measure the same data.
+ */
+final class Datasets {
+
+    private static final long SEED = 42L;
+    private static final int INSERT_CHUNK = 1_000;
+
+    private static final String[] FIRST_NAMES = {
+        "Maria", "James", "Omar", "Aiko", "Lena", "Marcus", "Priya", "Tomas", "Chen", "Fatima", "Noah", "Elena"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Marquez", "Okafor", "Tanaka", "Schmidt", "Johnson", "Novak", "Larsen", "Haddad", "Moreau"
+    };
+    private static final String[] TITLES = {"Engineer", "Analyst", "Manager", "Director", "Designer", "Consultant"};
+
+    private Datasets() {}
+
+    static List<Employee> employees(int size) {
+        Random random = new Random(SEED);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = name(random);
+            employees.add(Employee.builder()
+                    .name(name)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(18 + random.nextInt(48))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email(email(name, i))
+                    .build());
+        }
+        return employees;
+    }
+
+    static List<EmployeeDTO> employeeDtos(int size) {
+        return employees(size).stream()
+                .map(employee -> EmployeeDTO.builder()
+                        .name(employee.getName())
+                        .salary(employee.getSalary())
+                        .age(employee.getAge())
+                        .title(employee.getTitle())
+                        .email(employee.getEmail())
+                        .build())
+                .toList();
+    }
+
+    static List<MockEmployee> mockEmployees(int size) {
+        Random random = new Random(SEED);
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = name(random);
+            employees.add(MockEmployee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(name)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(16 + random.nextInt(55))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email(email(name, i))
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * Starts the api module without a web server on its own in-memory database. Both modules ship an
+     * {@code application.yml}, so the settings that shape the measured queries are passed explicitly.
+     */
+    static ConfigurableApplicationContext startApi(String databaseName) {
+        return new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "spring.jpa.properties.hibernate.order_inserts=true",
+                        "logging.level.root=WARN",
+                        "logging.level.com.reliaquest=WARN")
+                .run();
+    }
+
+    /**
+     * Inserts the employees and returns them with their generated ids.
+     */
+    static List<Employee> seed(ConfigurableApplicationContext context, List<Employee> employees) {
+        EmployeeDatabaseService employeeDao = context.getBean(EmployeeDatabaseService.class);
+        for (int from = 0; from < employees.size(); from += INSERT_CHUNK) {
+            employeeDao.saveAll(employees.subList(from, Math.min(from + INSERT_CHUNK, employees.size())));
+        }
+        return employees;
+    }
+
+    private static String name(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static String email(String name, int i) {
+        return name.toLowerCase().replace(' ', '.') + i + "@company.com";
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.EmployeeSearchCriteria;
+import com.reliaquest.api.model.entity.Employee;
+import com.reliaquest.api.service.impl.EmployeeDatabaseService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Database reads behind the list, search, lookup and top-ten endpoints, against an H2 table of {@code size} rows.
+ * <p>
+ * {@code loadAllManagedEmployees} reads the whole table as managed entities, the way the list endpoint did before
+ * it switched to detached projections; compare its {@code gc.alloc.rate.norm} with {@code searchAllEmployees} under
+ * {@code -Pjmh.profilers=gc}. On JDK 17 with one CPU that was 0.56, 5.5 and 62.8 MB per call for 1,000, 10,000 and
+ * 100,000 rows against 0.22, 2.0 and 20.7 MB for the projection.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeDatabaseServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"mar"})
+    private String nameFragment;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeDatabaseService employeeDao;
+    private EntityManagerFactory entityManagerFactory;
+    private EmployeeSearchCriteria all;
+    private EmployeeSearchCriteria[] byId;
+    private EmployeeSearchCriteria byName;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = Datasets.startApi("employee-db-" + size);
+        employeeDao = context.getBean(EmployeeDatabaseService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        all = new EmployeeSearchCriteria();
+        List<Employee> employees = Datasets.seed(context, Datasets.employees(size));
+        byId = employees.stream()
+                .map(employee -> EmployeeSearchCriteria.builder()
+                        .id(employee.getId().toString())
+                        .build())
+                .toArray(EmployeeSearchCriteria[]::new);
+        byName = EmployeeSearchCriteria.builder().name(nameFragment).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Employee> searchEmployeeById() {
+        return employeeDao.searchEmployee(byId[next++ % byId.length]);
+    }
+
+    @Benchmark
+    public List<Employee> searchAllEmployees() {
+        return employeeDao.searchEmployee(all);
+    }
+
+    @Benchmark
+    public List<Employee> loadAllManagedEmployees() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("FROM Employee", Employee.class).getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<Employee> searchEmployeeByName() {
+        return employeeDao.searchEmployee(byName);
+    }
+
+    @Benchmark
+    public List<String> findTop10EmployeesBySalary() {
+        return employeeDao.findTop10EmployeesBySalary();
+    }
+}
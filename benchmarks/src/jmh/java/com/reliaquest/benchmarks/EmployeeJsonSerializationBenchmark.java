@@ -0,0 +1,45 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.entity.Employee;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serializing a list of {@code size} employees with the same Jackson defaults Spring Boot uses for responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeJsonSerializationBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        employees = Datasets.employees(size);
+        employees.forEach(employee -> employee.setId(UUID.randomUUID()));
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+}
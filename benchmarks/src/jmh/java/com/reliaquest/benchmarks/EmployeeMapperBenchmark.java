@@ -0,0 +1,45 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.mapper.EmployeeDtoToEmployeeEntityMapper;
+import com.reliaquest.api.model.EmployeeDTO;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mapping {@code size} DTOs to entities, as the create and bulk-create paths do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeMapperBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    private int size;
+
+    private EmployeeDtoToEmployeeEntityMapper mapper;
+    private List<EmployeeDTO> dtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = Mappers.getMapper(EmployeeDtoToEmployeeEntityMapper.class);
+        dtos = Datasets.employeeDtos(size);
+    }
+
+    @Benchmark
+    public void mapEmployeeDtoToEmployee(Blackhole blackhole) {
+        for (EmployeeDTO dto : dtos) {
+            blackhole.consume(mapper.mapEmployeeDtoToEmployee(dto));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.util.EmployeeUtility;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing {@code size} employee ids, valid and invalid; invalid ids take the exception path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeUtilityBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private String[] validIds;
+    private String[] invalidIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validIds = IntStream.range(0, size)
+                .mapToObj(i -> new UUID(i, ~i).toString())
+                .toArray(String[]::new);
+        invalidIds = IntStream.range(0, size).mapToObj(i -> "employee-" + i).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void covertValidStringToUuid(Blackhole blackhole) {
+        for (String id : validIds) {
+            blackhole.consume(EmployeeUtility.covertStringToUuid(id));
+        }
+    }
+
+    @Benchmark
+    public void covertInvalidStringToUuid(Blackhole blackhole) {
+        for (String id : invalidIds) {
+            blackhole.consume(EmployeeUtility.covertStringToUuid(id));
+        }
+    }
+}
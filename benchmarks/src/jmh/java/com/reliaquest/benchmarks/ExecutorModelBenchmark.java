@@ -0,0 +1,99 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.model.entity.Employee;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares Tomcat's platform-thread pool with virtual threads under a blocking workload. The number of concurrent
+ * clients is above Tomcat's default 200 worker threads, so the platform executor has to queue requests that the
+ * virtual executor can park.
+ * <p>
+ * Throughput mode reports requests per second. Sample-time mode reports the latency distribution, including
+ * p0.99. The {@code virtual} executor needs a Java 21 runtime:
+ * {@code ./gradlew :benchmarks:jmh -PjavaVersion=21 -Pjmh.includes=ExecutorModelBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class ExecutorModelBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    @Param({"20"})
+    private int latencyMillis;
+
+    @Param({"10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = executor.equals("virtual");
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21; run with -PjavaVersion=21");
+        }
+        context = new SpringApplicationBuilder(ApiApplication.class, BlockingWorkloadController.class)
+                .logStartupInfo(false)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:executor-" + executor + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "logging.level.root=WARN",
+                        "logging.level.com.reliaquest=WARN")
+                .run();
+        List<Employee> employees = Datasets.seed(context, Datasets.employees(size));
+
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        requests = employees.stream()
+                .map(employee -> URI.create(
+                        base + "/benchmark/blocking/" + employee.getId() + "?latencyMillis=" + latencyMillis))
+                .toArray(URI[]::new);
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int blockingLookup() throws IOException, InterruptedException {
+        URI uri = requests[ThreadLocalRandom.current().nextInt(requests.length)];
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode();
+    }
+}
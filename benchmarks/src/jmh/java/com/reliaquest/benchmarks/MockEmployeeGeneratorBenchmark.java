@@ -0,0 +1,40 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Startup generation of {@code size} mock employees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MockEmployeeGeneratorBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private MockEmployeeGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new MockEmployeeGenerator(Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public List<MockEmployee> generate() {
+        return generator.generate(size, 42L);
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmailPool;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Lookups and deletes on the mock server's employee store holding {@code size} employees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private MockEmployeeStore store;
+    private MockEmailPool emailPool;
+    private MockEmployeeService service;
+    private List<MockEmployee> employees;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employees = Datasets.mockEmployees(size);
+        store = new MockEmployeeStore(employees);
+        emailPool = new MockEmailPool(new Faker(), 1024);
+        service = new MockEmployeeService(emailPool, store);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        emailPool.close();
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(employees.get(next++ % size).getId());
+    }
+
+    /*
+     * Deletes an employee by name and puts the removed one back, so the store keeps its size across invocations.
+     * Names repeat in the dataset, so the removed employee is looked up first rather than assumed.
+     */
+    @Benchmark
+    public boolean delete() {
+        String name = employees.get(next++ % size).getName();
+        MockEmployee removed = store.findFirstByName(name).orElseThrow();
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        boolean deleted = service.delete(input);
+        store.add(removed);
+        return deleted;
+    }
+}
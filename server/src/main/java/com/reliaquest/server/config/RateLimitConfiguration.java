@@ -0,0 +1,64 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.LockoutRateLimiter;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import com.reliaquest.server.web.RateLimiter;
+import com.reliaquest.server.web.SlidingWindowRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate limiting for the mock API, selected by {@code mock.rate-limit.mode}:
+ * <ul>
+ *     <li>{@code random} (default): each client gets a lockout after 5-9 requests that lasts 30-89 seconds, both
+ *     picked at random on startup.</li>
+ *     <li>{@code sliding-window}: each client gets {@code mock.rate-limit.limit} requests per sliding
+ *     {@code mock.rate-limit.window}, plus an optional {@code mock.rate-limit.backoff} lockout when it goes over.</li>
+ *     <li>{@code off}: no limit.</li>
+ * </ul>
+ * Clients are told apart by remote address, or by the {@code X-Client-Id} header when
+ * {@code mock.rate-limit.trust-client-id-header} is set.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("'${mock.rate-limit.mode:random}' != 'off'")
+public class RateLimitConfiguration {
+
+    @Bean
+    public RateLimiter rateLimiter(
+            @Value("${mock.rate-limit.mode:random}") String mode,
+            @Value("${mock.rate-limit.limit:10}") int limit,
+            @Value("${mock.rate-limit.window:1m}") Duration window,
+            @Value("${mock.rate-limit.backoff:0s}") Duration backoff,
+            @Value("${mock.rate-limit.max-clients:10000}") int maxClients) {
+        return switch (mode) {
+            case "random" -> {
+                LockoutRateLimiter limiter = LockoutRateLimiter.randomized(maxClients);
+                log.info(
+                        "Rate limiting each client to {} requests, then locking it out for {}",
+                        limiter.limit(),
+                        limiter.backoff());
+                yield limiter;
+            }
+            case "sliding-window" -> {
+                log.info("Rate limiting each client to {} requests per {}, backoff {}", limit, window, backoff);
+                yield new SlidingWindowRateLimiter(limit, window, backoff, maxClients);
+            }
+            default -> throw new IllegalArgumentException("Unknown mock.rate-limit.mode '" + mode
+                    + "', expected random, sliding-window or off");
+        };
+    }
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(
+            RateLimiter rateLimiter,
+            @Value("${mock.rate-limit.trust-client-id-header:false}") boolean trustClientIdHeader,
+            MeterRegistry meterRegistry) {
+        return new RateLimitInterceptor(rateLimiter, trustClientIdHeader, meterRegistry);
+    }
+}
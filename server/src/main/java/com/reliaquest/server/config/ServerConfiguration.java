@@ -1,19 +1,21 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.persistence.MockEmployeePersistence;
+import com.reliaquest.server.service.MockEmailPool;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeStore;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,39 +23,65 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final ObjectProvider<RateLimitInterceptor> rateLimitInterceptor;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. Without mock.employees.seed a random seed is used and
+     * logged, so any dataset can be reproduced. With mock.persistence.enabled the employees are only generated if
+     * no snapshot exists yet, and changes survive restarts.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            ObjectProvider<MockEmployeePersistence> persistence) {
+        MockEmployeePersistence files = persistence.getIfAvailable();
+        if (files != null) {
+            return files.open(() -> generateEmployees(maxEmployees, seed));
+        }
+        return new MockEmployeeStore(generateEmployees(maxEmployees, seed));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public MockEmployeePersistence mockEmployeePersistence(
+            @Value("${mock.persistence.directory:data}") String directory,
+            @Value("${mock.persistence.fsync:false}") boolean fsync) {
+        return new MockEmployeePersistence(Path.of(directory), fsync);
+    }
+
+    @Bean
+    public MockEmailPool mockEmailPool(Faker faker, @Value("${mock.emails.pool-size:1024}") int poolSize) {
+        return new MockEmailPool(faker, poolSize);
+    }
+
+    private static List<MockEmployee> generateEmployees(int maxEmployees, Long seed) {
+        final long datasetSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        final long start = System.nanoTime();
+        final List<MockEmployee> employees =
+                new MockEmployeeGenerator(Locale.getDefault()).generate(maxEmployees, datasetSeed);
+        log.info(
+                "Generated {} employees with seed {} in {} ms",
+                employees.size(),
+                datasetSeed,
+                (System.nanoTime() - start) / 1_000_000);
+        return employees;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        // Metric scrapes must not use up, or be refused by, the simulated rate limit.
+        rateLimitInterceptor.ifAvailable(
+                interceptor -> registry.addInterceptor(interceptor).excludePathPatterns("/actuator/**"));
     }
 }
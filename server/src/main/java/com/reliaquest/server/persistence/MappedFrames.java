@@ -0,0 +1,107 @@
+package com.reliaquest.server.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Predicate;
+
+/**
+ * Reads and writes length-prefixed frames through memory-mapped windows of a file.
+ * <p>
+ * Each frame is an int byte length followed by that many bytes. Files are mapped one window at a time, never
+ * splitting a frame, so a file may be larger than the 2 GB a single mapping can cover.
+ * </p>
+ */
+final class MappedFrames {
+
+    static final int MAX_FRAME = 16 * 1024 * 1024;
+
+    private static final long WINDOW = 256L * 1024 * 1024;
+
+    private MappedFrames() {}
+
+    /**
+     * Passes each complete frame from {@code position} onwards to {@code consumer} as a buffer over the mapping,
+     * stopping at the end of the file, at the first frame that is cut short or has an impossible length, or at the
+     * first frame the consumer rejects.
+     *
+     * @return the position just after the last accepted frame
+     */
+    static long read(FileChannel channel, long position, Predicate<ByteBuffer> consumer) throws IOException {
+        long size = channel.size();
+        MappedByteBuffer window = null;
+        long windowStart = position;
+        while (size - position >= Integer.BYTES) {
+            if (window == null || position + Integer.BYTES > windowStart + window.capacity()) {
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(WINDOW, size - position));
+            }
+            int length = window.getInt((int) (position - windowStart));
+            long end = position + Integer.BYTES + length;
+            if (length < 0 || length > MAX_FRAME || end > size) {
+                break;
+            }
+            if (end > windowStart + window.capacity()) {
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(WINDOW, size - position));
+            }
+            if (!consumer.test(window.slice((int) (position - windowStart) + Integer.BYTES, length))) {
+                break;
+            }
+            position = end;
+        }
+        return position;
+    }
+
+    /**
+     * Writes frames into a file region of a size known up front, mapping it read-write one window at a time.
+     */
+    static final class Writer {
+
+        private final FileChannel channel;
+        private final long limit;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+
+        Writer(FileChannel channel, long position, long limit) {
+            this.channel = channel;
+            this.position = position;
+            this.windowStart = position;
+            this.limit = limit;
+        }
+
+        /**
+         * Reserves a frame of {@code length} bytes and returns a buffer of exactly that size to fill.
+         */
+        ByteBuffer frame(int length) throws IOException {
+            long end = position + Integer.BYTES + length;
+            if (length > MAX_FRAME || end > limit) {
+                throw new IllegalStateException("Frame of " + length + " bytes does not fit at " + position);
+            }
+            if (window == null || end > windowStart + window.capacity()) {
+                force();
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_WRITE, windowStart, Math.min(WINDOW, limit - position));
+            }
+            int offset = (int) (position - windowStart);
+            window.putInt(offset, length);
+            position = end;
+            return window.slice(offset + Integer.BYTES, length);
+        }
+
+        /**
+         * Flushes the current window; earlier windows are flushed when the writer moves past them.
+         */
+        void force() {
+            if (window != null) {
+                window.force();
+            }
+        }
+
+        long position() {
+            return position;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Fixed binary layout of a {@link MockEmployee}, shared by the snapshot and the journal.
+ * <p>
+ * An employee is written as its id (two longs), salary and age (ints, {@link Integer#MIN_VALUE} for null), then
+ * name, title and email, each as a byte length followed by UTF-8 bytes, with length {@code -1} for null.
+ * </p>
+ */
+final class MockEmployeeCodec {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    private MockEmployeeCodec() {}
+
+    static int size(MockEmployee employee) {
+        return Long.BYTES * 2
+                + Integer.BYTES * 2
+                + size(employee.getName())
+                + size(employee.getTitle())
+                + size(employee.getEmail());
+    }
+
+    static void write(ByteBuffer buffer, MockEmployee employee) {
+        writeId(buffer, employee.getId());
+        writeInt(buffer, employee.getSalary());
+        writeInt(buffer, employee.getAge());
+        writeString(buffer, employee.getName());
+        writeString(buffer, employee.getTitle());
+        writeString(buffer, employee.getEmail());
+    }
+
+    static MockEmployee read(ByteBuffer buffer) {
+        return MockEmployee.builder()
+                .id(readId(buffer))
+                .salary(readInt(buffer))
+                .age(readInt(buffer))
+                .name(readString(buffer))
+                .title(readString(buffer))
+                .email(readString(buffer))
+                .build();
+    }
+
+    static void writeId(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readId(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void writeInt(ByteBuffer buffer, Integer value) {
+        buffer.putInt(value != null ? value : NULL_INT);
+    }
+
+    private static Integer readInt(ByteBuffer buffer) {
+        int value = buffer.getInt();
+        return value != NULL_INT ? value : null;
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalStateException("Corrupt string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int size(String value) {
+        return Integer.BYTES + (value != null ? utf8Length(value) : 0);
+    }
+
+    // Counts encoded bytes without encoding, so sizing a snapshot does not allocate per field.
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // Includes unpaired surrogates, which the encoder replaces with the single byte '?'.
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+}
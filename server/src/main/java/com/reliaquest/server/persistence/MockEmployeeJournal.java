@@ -0,0 +1,164 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of the creates and deletes applied to a {@link MockEmployeeStore} since its last snapshot.
+ * <p>
+ * After a header, each change is one {@link MappedFrames frame} holding a CRC32 of the rest of the frame, an
+ * operation byte, and either the full employee or just its id. A crash can leave at most a torn last frame, which
+ * {@link #replay} detects by its length or checksum and cuts off. Appends are written straight to the file; with
+ * {@code fsync} they are also forced to disk before the store applies the change.
+ * </p>
+ */
+@Slf4j
+final class MockEmployeeJournal implements MockEmployeeStore.Journal, AutoCloseable {
+
+    private static final int MAGIC = 0x4D4F434A; // "MOCJ"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER = Integer.BYTES * 2;
+    private static final byte ADDED = 1;
+    private static final byte REMOVED = 2;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final CRC32 crc = new CRC32();
+
+    // Guarded by this.
+    private long position;
+
+    MockEmployeeJournal(Path path, boolean fsync) throws IOException {
+        this.path = path;
+        this.fsync = fsync;
+        this.channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            reset();
+        } else {
+            checkHeader();
+        }
+        this.position = channel.size();
+    }
+
+    /**
+     * Replays every intact change in order, then truncates the journal after the last one so a torn tail left by
+     * a crash is not appended to.
+     *
+     * @return the number of changes replayed
+     */
+    synchronized long replay(Consumer<MockEmployee> added, Consumer<UUID> removed) throws IOException {
+        long[] replayed = {0};
+        long intact = MappedFrames.read(channel, HEADER, frame -> {
+            if (frame.getInt() != checksum(frame)) {
+                return false;
+            }
+            byte operation = frame.get();
+            if (operation == ADDED) {
+                added.accept(MockEmployeeCodec.read(frame));
+            } else if (operation == REMOVED) {
+                removed.accept(MockEmployeeCodec.readId(frame));
+            } else {
+                return false;
+            }
+            replayed[0]++;
+            return true;
+        });
+
+        if (intact < channel.size()) {
+            log.warn("Discarding {} bytes of torn journal tail in {}", channel.size() - intact, path);
+            channel.truncate(intact);
+        }
+        position = intact;
+        return replayed[0];
+    }
+
+    /**
+     * Empties the journal, once its changes are covered by a snapshot.
+     */
+    synchronized void reset() throws IOException {
+        channel.truncate(0);
+        write(ByteBuffer.allocate(HEADER).putInt(MAGIC).putInt(FORMAT_VERSION).flip(), 0);
+        channel.force(true);
+        position = HEADER;
+    }
+
+    @Override
+    public void added(MockEmployee employee) {
+        ByteBuffer frame = frame(ADDED, MockEmployeeCodec.size(employee));
+        MockEmployeeCodec.write(frame, employee);
+        append(frame);
+    }
+
+    @Override
+    public void removed(MockEmployee employee) {
+        ByteBuffer frame = frame(REMOVED, Long.BYTES * 2);
+        MockEmployeeCodec.writeId(frame, employee.getId());
+        append(frame);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static ByteBuffer frame(byte operation, int bodySize) {
+        int length = Integer.BYTES + 1 + bodySize;
+        return ByteBuffer.allocate(Integer.BYTES + length)
+                .putInt(length)
+                .putInt(0) // Checksum, filled in by append.
+                .put(operation);
+    }
+
+    private synchronized void append(ByteBuffer frame) {
+        frame.flip();
+        frame.putInt(Integer.BYTES, checksum(frame.slice(Integer.BYTES * 2, frame.limit() - Integer.BYTES * 2)));
+        try {
+            long start = position;
+            write(frame, start);
+            if (fsync) {
+                channel.force(false);
+            }
+            position = start + frame.limit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + path, e);
+        }
+    }
+
+    private void checkHeader() throws IOException {
+        ByteBuffer header = channel.size() < HEADER ? null : channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+        if (header == null || header.getInt() != MAGIC) {
+            channel.close();
+            throw new IllegalStateException(path + " is not an employee journal");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            channel.close();
+            throw new IllegalStateException("Unsupported journal version " + version + " in " + path);
+        }
+    }
+
+    private void write(ByteBuffer buffer, long at) throws IOException {
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+
+    // Covers the operation and body that follow the checksum; consumes nothing from the buffer.
+    private int checksum(ByteBuffer body) {
+        crc.reset();
+        crc.update(body.duplicate());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a {@link MockEmployeeStore} on disk as a {@link MockEmployeeSnapshot} plus a {@link MockEmployeeJournal}
+ * of the changes made since.
+ * <p>
+ * {@link #open} loads the snapshot and replays the journal when there is one, and otherwise generates the employees
+ * and writes the first snapshot. Whenever the journal was replayed, and again on {@link #close()}, the store is
+ * checkpointed: a fresh snapshot is written and the journal emptied, so the journal only ever holds one run's
+ * changes.
+ * </p>
+ */
+@Slf4j
+public class MockEmployeePersistence implements AutoCloseable {
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final boolean fsync;
+
+    private MockEmployeeStore store;
+    private MockEmployeeJournal journal;
+
+    public MockEmployeePersistence(Path directory, boolean fsync) {
+        this.snapshotPath = directory.resolve("employees.snapshot");
+        this.journalPath = directory.resolve("employees.journal");
+        this.fsync = fsync;
+    }
+
+    public synchronized MockEmployeeStore open(Supplier<List<MockEmployee>> generator) {
+        if (store != null) {
+            throw new IllegalStateException("Already opened " + snapshotPath);
+        }
+        try {
+            Files.createDirectories(snapshotPath.getParent());
+            long start = System.nanoTime();
+            boolean restored = Files.exists(snapshotPath);
+            MockEmployeeStore opened;
+            if (restored) {
+                opened = new MockEmployeeStore(MockEmployeeSnapshot.read(snapshotPath));
+                log.info("Loaded {} employees from {} in {} ms", opened.size(), snapshotPath, millisSince(start));
+            } else {
+                opened = new MockEmployeeStore(generator.get());
+            }
+
+            journal = new MockEmployeeJournal(journalPath, fsync);
+            long replayed = 0;
+            if (restored) {
+                replayed = journal.replay(opened::add, opened::removeById);
+                log.info("Replayed {} changes from {}", replayed, journalPath);
+            }
+            if (!restored || replayed > 0) {
+                checkpoint(opened);
+            }
+            opened.setJournal(journal);
+            store = opened;
+            log.info("Opened {} persistent employees in {} ms", opened.size(), millisSince(start));
+            return opened;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open employee data in " + snapshotPath.getParent(), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (store == null) {
+            return;
+        }
+        try {
+            checkpoint(store);
+            log.info("Saved {} employees to {}", store.size(), snapshotPath);
+        } finally {
+            journal.close();
+            store = null;
+        }
+    }
+
+    private void checkpoint(MockEmployeeStore target) {
+        target.checkpoint(snapshot -> {
+            try {
+                MockEmployeeSnapshot.write(snapshotPath, snapshot.employees());
+                journal.reset();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write " + snapshotPath, e);
+            }
+        });
+    }
+
+    private static long millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact binary image of every employee in the store, read and written through memory-mapped I/O.
+ * <p>
+ * The file starts with a magic number, a format version and the employee count, followed by one
+ * {@link MappedFrames frame} per employee in {@link MockEmployeeCodec} layout, in store order. A snapshot is
+ * written to a temporary file and moved into place, so a crash while writing leaves the previous one intact.
+ * </p>
+ */
+final class MockEmployeeSnapshot {
+
+    private static final int MAGIC = 0x4D4F434B; // "MOCK"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER = Integer.BYTES * 2 + Long.BYTES;
+
+    private MockEmployeeSnapshot() {}
+
+    static void write(Path path, Collection<MockEmployee> employees) throws IOException {
+        long size = HEADER;
+        for (MockEmployee employee : employees) {
+            size += Integer.BYTES + MockEmployeeCodec.size(employee);
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(employees.size())
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, HEADER - header.remaining());
+            }
+
+            MappedFrames.Writer writer = new MappedFrames.Writer(channel, HEADER, size);
+            for (MockEmployee employee : employees) {
+                MockEmployeeCodec.write(writer.frame(MockEmployeeCodec.size(employee)), employee);
+            }
+            writer.force();
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static List<MockEmployee> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER) {
+                throw new IllegalStateException(path + " is not an employee snapshot");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+            if (header.getInt() != MAGIC) {
+                throw new IllegalStateException(path + " is not an employee snapshot");
+            }
+            int version = header.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported snapshot version " + version + " in " + path);
+            }
+            long count = header.getLong();
+            if (count < 0 || count > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Corrupt employee count " + count + " in " + path);
+            }
+
+            List<MockEmployee> employees = new ArrayList<>((int) count);
+            long end = MappedFrames.read(channel, HEADER, frame -> employees.add(MockEmployeeCodec.read(frame)));
+            if (employees.size() != count || end != channel.size()) {
+                throw new IllegalStateException("Snapshot " + path + " is truncated: expected " + count
+                        + " employees, found " + employees.size());
+            }
+            return employees;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/**
+ * Pool of pre-generated employee emails, so creating an employee does not wait on Faker.
+ * <p>
+ * A background thread fills the pool up to its capacity and tops it up whenever it drops below half. If callers
+ * drain it faster than that, {@link #next()} generates an email itself rather than waiting. A generated email that
+ * is already waiting in the pool is dropped, so the pool never holds the same email twice.
+ * </p>
+ */
+@Slf4j
+public class MockEmailPool implements AutoCloseable {
+
+    private final Faker faker;
+    private final BlockingQueue<String> pool;
+    private final Set<String> pooled = ConcurrentHashMap.newKeySet();
+    private final int lowWatermark;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final ExecutorService refiller = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "mock-email-refill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MockEmailPool(Faker faker, int capacity) {
+        this.faker = faker;
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.lowWatermark = Math.max(1, capacity / 2);
+        requestRefill();
+    }
+
+    public String next() {
+        String email = pool.poll();
+        if (email != null) {
+            pooled.remove(email);
+        }
+        if (pool.size() < lowWatermark) {
+            requestRefill();
+        }
+        return email != null ? email : generate();
+    }
+
+    public int available() {
+        return pool.size();
+    }
+
+    @Override
+    public void close() {
+        refiller.shutdownNow();
+    }
+
+    private void requestRefill() {
+        if (refilling.compareAndSet(false, true)) {
+            refiller.execute(this::refill);
+        }
+    }
+
+    private void refill() {
+        try {
+            while (!Thread.currentThread().isInterrupted() && pool.remainingCapacity() > 0) {
+                String email = generate();
+                // Only this thread adds, so the pool has room for an email that was not pooled yet.
+                if (pooled.add(email)) {
+                    pool.offer(email);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refill email pool: {}", e.getMessage());
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    /*
+     * Faker is not thread-safe; the refill thread and callers that found the pool empty share this one.
+     */
+    private String generate() {
+        synchronized (faker) {
+            return ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                    faker.twitter().userName().toLowerCase());
+        }
+    }
+}
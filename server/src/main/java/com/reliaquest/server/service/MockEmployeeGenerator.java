@@ -0,0 +1,64 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates mock employees in parallel and reproducibly.
+ * <p>
+ * The dataset is split into chunks of {@value #CHUNK_SIZE}. Each chunk has its own {@link Faker}, seeded from the
+ * dataset seed and the chunk number, so chunks can be generated on any thread in any order and the same seed and
+ * locale always give the same employees in the same order. Ids come from the same random source as the other
+ * fields.
+ * </p>
+ */
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 10_000;
+
+    private final Locale locale;
+
+    public MockEmployeeGenerator(Locale locale) {
+        this.locale = locale;
+    }
+
+    public List<MockEmployee> generate(int count, long seed) {
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(seed, chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private List<MockEmployee> generateChunk(long seed, int chunk, int size) {
+        Random random = new Random(seed * 1_000_003L + chunk);
+        Faker faker = new Faker(locale, random);
+        return IntStream.range(0, size)
+                .mapToObj(ignored -> MockEmployee.builder()
+                        .id(randomUuid(random))
+                        .name(faker.name().fullName())
+                        .salary(faker.number().numberBetween(30000, 500000))
+                        .age(faker.number().numberBetween(16, 70))
+                        .title(faker.job().title())
+                        .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase()))
+                        .build())
+                .toList();
+    }
+
+    /*
+     * A version 4 UUID whose random bits come from the seeded source instead of SecureRandom.
+     */
+    private static UUID randomUuid(Random random) {
+        long high = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long low = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(high, low);
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * The full employee list response, serialized and gzipped once per {@link MockEmployeeStore#version()}.
+ * <p>
+ * Every poll of an unchanged store gets the same bytes and the same ETag. The ETag combines the store version with
+ * a random per-process epoch, because versions start over on every restart while the data may not. The gzipped
+ * bytes are a different representation and carry their own strong ETag, suffixed with {@code -gzip}.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockEmployeeListCache {
+
+    public record Serialized(long version, String etag, String gzipEtag, byte[] json, byte[] gzip) {}
+
+    private static final String EPOCH = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private final MockEmployeeStore mockEmployeeStore;
+    private final ObjectMapper objectMapper;
+
+    private volatile Serialized current;
+
+    public Serialized current() {
+        MockEmployeeStore.Snapshot snapshot = mockEmployeeStore.snapshot();
+        Serialized serialized = current;
+        if (serialized != null && serialized.version() == snapshot.version()) {
+            return serialized;
+        }
+        synchronized (this) {
+            serialized = current;
+            if (serialized == null || serialized.version() != snapshot.version()) {
+                serialized = serialize(snapshot);
+                // Concurrent writes may have moved on already; never replace a newer version with this one.
+                if (current == null || current.version() < serialized.version()) {
+                    current = serialized;
+                }
+            }
+            return serialized;
+        }
+    }
+
+    private Serialized serialize(MockEmployeeStore.Snapshot snapshot) {
+        long start = System.nanoTime();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Response.handledWith(snapshot.employees()));
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip, 8192)) {
+                out.write(json);
+            }
+            Serialized serialized = new Serialized(
+                    snapshot.version(),
+                    "\"" + EPOCH + "-" + snapshot.version() + "\"",
+                    "\"" + EPOCH + "-" + snapshot.version() + "-gzip\"",
+                    json,
+                    gzip.toByteArray());
+            log.debug(
+                    "Serialized {} employees at version {} into {} bytes ({} gzipped) in {} ms",
+                    snapshot.employees().size(),
+                    snapshot.version(),
+                    json.length,
+                    serialized.gzip().length,
+                    (System.nanoTime() - start) / 1_000_000);
+            return serialized;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize employees", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
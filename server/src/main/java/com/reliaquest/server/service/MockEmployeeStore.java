@@ -0,0 +1,219 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * Thread-safe store of {@link MockEmployee}s with a hash index on id and a case-insensitive index on name.
+ * <p>
+ * Lookups by id never block. Writes are serialized and each one bumps {@link #version()}. Listing returns an
+ * immutable {@link Snapshot} in insertion order that is built at most once per version, so readers never see a
+ * half-applied write and unchanged data is not copied again.
+ * </p>
+ */
+public class MockEmployeeStore {
+
+    public record Snapshot(long version, List<MockEmployee> employees) {}
+
+    /**
+     * Receives every change before it is applied, while the store's write lock is held, so changes arrive in the
+     * order the store applies them. If a method throws, the change is not applied.
+     */
+    public interface Journal {
+
+        Journal NONE = new Journal() {
+            @Override
+            public void added(MockEmployee employee) {}
+
+            @Override
+            public void removed(MockEmployee employee) {}
+        };
+
+        void added(MockEmployee employee);
+
+        void removed(MockEmployee employee);
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, MockEmployee> byId;
+
+    // Guarded by lock.
+    private final Map<UUID, MockEmployee> ordered;
+    private final Map<String, Set<UUID>> byName;
+
+    private volatile long version;
+    private volatile Snapshot snapshot;
+    private volatile Journal journal = Journal.NONE;
+
+    public MockEmployeeStore(Collection<MockEmployee> employees) {
+        int capacity = (int) Math.min(Integer.MAX_VALUE, employees.size() * 4L / 3 + 16);
+        byId = new ConcurrentHashMap<>(capacity);
+        ordered = new LinkedHashMap<>(capacity);
+        byName = new HashMap<>(capacity);
+        // Nothing else can see the store yet, so a bulk load skips locking and counts as a single write.
+        employees.forEach(this::put);
+        changed();
+    }
+
+    /**
+     * Sends all later changes to {@code journal}; employees already in the store are not replayed to it.
+     */
+    public void setJournal(@NonNull Journal journal) {
+        lock.writeLock().lock();
+        try {
+            this.journal = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        lock.readLock().lock();
+        try {
+            return firstIdByName(name).map(byId::get);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        lock.writeLock().lock();
+        try {
+            journal.added(employee);
+            put(employee);
+            changed();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Atomically finds and removes the oldest employee with the given name, ignoring case.
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        lock.writeLock().lock();
+        try {
+            return firstIdByName(name).map(this::removeLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        lock.writeLock().lock();
+        try {
+            return ordered.containsKey(id) ? Optional.of(removeLocked(id)) : Optional.empty();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.readLock().lock();
+        try {
+            current = snapshot;
+            if (current == null) {
+                // Writers clear the snapshot under the write lock, so this one cannot be stale once published.
+                current = new Snapshot(version, List.copyOf(ordered.values()));
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs {@code action} on the current {@link Snapshot} while holding off writes, so the action sees exactly the
+     * state its journal has recorded up to that point.
+     */
+    public void checkpoint(@NonNull Consumer<Snapshot> action) {
+        lock.writeLock().lock();
+        try {
+            action.accept(snapshot());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private Optional<UUID> firstIdByName(String name) {
+        Set<UUID> ids = byName.get(key(name));
+        if (ids == null) {
+            return Optional.empty();
+        }
+        Iterator<UUID> first = ids.iterator();
+        return first.hasNext() ? Optional.of(first.next()) : Optional.empty();
+    }
+
+    private void put(MockEmployee employee) {
+        MockEmployee previous = ordered.remove(employee.getId());
+        if (previous != null) {
+            unindexName(previous);
+        }
+        ordered.put(employee.getId(), employee);
+        byId.put(employee.getId(), employee);
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(key(employee.getName()), ignored -> new LinkedHashSet<>())
+                    .add(employee.getId());
+        }
+    }
+
+    private MockEmployee removeLocked(UUID id) {
+        journal.removed(ordered.get(id));
+        MockEmployee removed = ordered.remove(id);
+        byId.remove(id);
+        unindexName(removed);
+        changed();
+        return removed;
+    }
+
+    private void unindexName(MockEmployee employee) {
+        if (employee.getName() == null) {
+            return;
+        }
+        String key = key(employee.getName());
+        Set<UUID> ids = byName.get(key);
+        if (ids != null && ids.remove(employee.getId()) && ids.isEmpty()) {
+            byName.remove(key);
+        }
+    }
+
+    private void changed() {
+        version++;
+        snapshot = null;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
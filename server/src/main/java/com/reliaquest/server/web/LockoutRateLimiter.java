@@ -0,0 +1,75 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Lets a client make {@code limit} requests, then locks it out until {@code backoff} has passed since its last
+ * accepted request. This is the mock server's original throttling model, now counted atomically and per client.
+ */
+public class LockoutRateLimiter extends PerClientRateLimiter<LockoutRateLimiter.State> {
+
+    record State(int count, long lastAccepted) {}
+
+    private final int limit;
+    private final long backoffNanos;
+
+    public LockoutRateLimiter(int limit, Duration backoff, int maxClients) {
+        this(limit, backoff, maxClients, System::nanoTime);
+    }
+
+    LockoutRateLimiter(int limit, Duration backoff, int maxClients, LongSupplier nanoClock) {
+        super(maxClients, nanoClock);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Rate limit must be at least 1");
+        }
+        this.limit = limit;
+        this.backoffNanos = backoff.toNanos();
+    }
+
+    /**
+     * Picks a limit of 5-9 requests and a backoff of 30-89 seconds, as the mock server always has.
+     */
+    public static LockoutRateLimiter randomized(int maxClients) {
+        RandomGenerator random = RandomGenerator.getDefault();
+        return new LockoutRateLimiter(random.nextInt(5, 10), Duration.ofSeconds(random.nextInt(30, 90)), maxClients);
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    public Duration backoff() {
+        return Duration.ofNanos(backoffNanos);
+    }
+
+    @Override
+    State initial(long now) {
+        return new State(0, now);
+    }
+
+    @Override
+    Step<State> acquire(State current, long now) {
+        if (current.count() < limit) {
+            return new Step<>(new State(current.count() + 1, now), true);
+        }
+        return isIdle(current, now) ? new Step<>(new State(1, now), true) : new Step<>(current, false);
+    }
+
+    @Override
+    RateLimitDecision allowed(State state, long now) {
+        return RateLimitDecision.allowed(limit, limit - state.count());
+    }
+
+    @Override
+    RateLimitDecision rejected(State state, long now) {
+        return RateLimitDecision.rejected(limit, state.lastAccepted() + backoffNanos - now);
+    }
+
+    @Override
+    boolean isIdle(State state, long now) {
+        return now - state.lastAccepted() >= backoffNanos;
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Base for rate limiters that keep an immutable state per client and update it with compare-and-set only.
+ * <p>
+ * Clients live in a {@link ConcurrentHashMap}, so requests from different clients never contend, and a client's own
+ * concurrent requests retry their CAS instead of blocking or losing an update.
+ * </p>
+ * <p>
+ * At most {@code maxClients} clients are tracked, give or take the new clients arriving at the same moment. When a
+ * new client finds the map full, clients whose state has gone idle are swept out, at most once per
+ * {@link #SWEEP_INTERVAL} and by one thread at a time. If that frees no room, the new client is rejected until the
+ * next sweep is due, so clients that rotate their key cannot grow the map or make every request scan it. Known
+ * clients are never affected by a full map.
+ * </p>
+ *
+ * @param <S> the immutable per-client state
+ */
+abstract class PerClientRateLimiter<S> implements RateLimiter {
+
+    /**
+     * The state after a request, and whether that request was admitted.
+     */
+    record Step<S>(S state, boolean allowed) {}
+
+    /**
+     * Shortest time between two sweeps for idle clients.
+     */
+    static final Duration SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    private final Map<String, AtomicReference<S>> clients = new ConcurrentHashMap<>();
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private volatile long nextSweep;
+
+    PerClientRateLimiter(int maxClients, LongSupplier nanoClock) {
+        if (maxClients < 1) {
+            throw new IllegalArgumentException("At least one client must be tracked");
+        }
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+        this.nextSweep = nanoClock.getAsLong();
+    }
+
+    @Override
+    public final RateLimitDecision tryAcquire(String clientKey) {
+        long now = nanoClock.getAsLong();
+        AtomicReference<S> state = clients.get(clientKey);
+        if (state == null) {
+            state = track(clientKey, now);
+            if (state == null) {
+                return RateLimitDecision.rejected(limit(), nextSweep - now);
+            }
+        }
+        while (true) {
+            S current = state.get();
+            Step<S> step = acquire(current, now);
+            if (step.state() != current && !state.compareAndSet(current, step.state())) {
+                continue;
+            }
+            // A sweep may have dropped the client as idle while this request updated it. Put the update back, or
+            // decide again against the state a concurrent request put there first.
+            if (step.state() != current && clients.get(clientKey) != state) {
+                AtomicReference<S> tracked = clients.putIfAbsent(clientKey, state);
+                if (tracked != null && tracked != state) {
+                    state = tracked;
+                    continue;
+                }
+            }
+            return step.allowed() ? allowed(step.state(), now) : rejected(step.state(), now);
+        }
+    }
+
+    int trackedClients() {
+        return clients.size();
+    }
+
+    /**
+     * The request limit reported to clients, including new clients rejected because the map is full.
+     */
+    abstract int limit();
+
+    abstract S initial(long now);
+
+    /**
+     * Decides one request. Returning {@code current} itself as the state skips the write.
+     */
+    abstract Step<S> acquire(S current, long now);
+
+    abstract RateLimitDecision allowed(S state, long now);
+
+    abstract RateLimitDecision rejected(S state, long now);
+
+    /**
+     * Whether forgetting this state would not change any future decision.
+     */
+    abstract boolean isIdle(S state, long now);
+
+    // Returns the new client's state, or null when the map is full and no idle client could be swept out.
+    private AtomicReference<S> track(String clientKey, long now) {
+        if (clients.size() >= maxClients) {
+            sweepIdle(now);
+            if (clients.size() >= maxClients) {
+                return null;
+            }
+        }
+        return clients.computeIfAbsent(clientKey, ignored -> new AtomicReference<>(initial(now)));
+    }
+
+    private void sweepIdle(long now) {
+        if (now - nextSweep < 0 || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            nextSweep = now + SWEEP_INTERVAL.toNanos();
+            clients.forEach((clientKey, state) -> {
+                if (isIdle(state.get(), now)) {
+                    clients.remove(clientKey, state);
+                }
+            });
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
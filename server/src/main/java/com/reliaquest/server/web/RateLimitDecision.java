@@ -0,0 +1,22 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+
+/**
+ * Outcome of asking a {@link RateLimiter} for a request slot.
+ *
+ * @param allowed whether the request may proceed
+ * @param limit the number of requests the client may make per window or lockout period
+ * @param remaining how many more requests the client may make right now
+ * @param retryAfter how long a rejected client should wait before trying again; zero when allowed
+ */
+public record RateLimitDecision(boolean allowed, int limit, int remaining, Duration retryAfter) {
+
+    static RateLimitDecision allowed(int limit, int remaining) {
+        return new RateLimitDecision(true, limit, Math.max(0, remaining), Duration.ZERO);
+    }
+
+    static RateLimitDecision rejected(int limit, long retryAfterNanos) {
+        return new RateLimitDecision(false, limit, 0, Duration.ofNanos(Math.max(0, retryAfterNanos)));
+    }
+}
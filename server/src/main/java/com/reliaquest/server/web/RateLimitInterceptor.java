@@ -0,0 +1,64 @@
+package com.reliaquest.server.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies a {@link RateLimiter} to every request, keyed by the remote address.
+ * <p>
+ * Clients choose their own {@code X-Client-Id}, so a client could reset its limit by sending a new one with each
+ * request. The header is only used as the key when {@code trustClientIdHeader} is set, for deployments where a
+ * trusted proxy sets it; blank values still fall back to the remote address.
+ * </p>
+ * <p>
+ * Every response carries {@code X-RateLimit-Limit} and {@code X-RateLimit-Remaining}. A rejected request gets
+ * {@code 429 Too Many Requests} with {@code Retry-After} in whole seconds, rounded up.
+ * </p>
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimiter rateLimiter;
+    private final boolean trustClientIdHeader;
+    private final Counter throttledRequests;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, boolean trustClientIdHeader, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.trustClientIdHeader = trustClientIdHeader;
+        this.throttledRequests = Counter.builder("mock.requests.throttled")
+                .description("Requests rejected with 429 Too Many Requests")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RateLimitDecision decision = rateLimiter.tryAcquire(clientKey(request));
+        response.setHeader(LIMIT_HEADER, Integer.toString(decision.limit()));
+        response.setHeader(REMAINING_HEADER, Integer.toString(decision.remaining()));
+        if (decision.allowed()) {
+            return true;
+        }
+
+        long retryAfterSeconds = Math.max(1, decision.retryAfter().plusNanos(999_999_999L).getSeconds());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        throttledRequests.increment();
+        return false;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (!trustClientIdHeader) {
+            return request.getRemoteAddr();
+        }
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.server.web;
+
+/**
+ * Decides whether a client may make another request.
+ */
+public interface RateLimiter {
+
+    /**
+     * Takes a request slot for {@code clientKey} if one is free. Must be safe to call from many threads at once.
+     */
+    RateLimitDecision tryAcquire(String clientKey);
+}
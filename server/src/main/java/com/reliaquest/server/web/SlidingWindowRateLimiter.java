@@ -0,0 +1,111 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding-window counter: allows {@code limit} requests per client in any window of length {@code window}.
+ * <p>
+ * Each client keeps the counts of the current and the previous fixed window, and the previous count is weighted by
+ * how much of it the sliding window still overlaps. That approximates an exact sliding log in constant space per
+ * client. A client that goes over the limit is additionally locked out for {@code backoff}, which may be zero.
+ * </p>
+ */
+public class SlidingWindowRateLimiter extends PerClientRateLimiter<SlidingWindowRateLimiter.State> {
+
+    record State(long windowStart, int previous, int current, long blockedUntil) {}
+
+    private final int limit;
+    private final long windowNanos;
+    private final long backoffNanos;
+
+    public SlidingWindowRateLimiter(int limit, Duration window, Duration backoff, int maxClients) {
+        this(limit, window, backoff, maxClients, System::nanoTime);
+    }
+
+    SlidingWindowRateLimiter(int limit, Duration window, Duration backoff, int maxClients, LongSupplier nanoClock) {
+        super(maxClients, nanoClock);
+        if (limit < 1 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("Rate limit and window must be positive");
+        }
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.backoffNanos = backoff.toNanos();
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    State initial(long now) {
+        return new State(now, 0, 0, now);
+    }
+
+    @Override
+    Step<State> acquire(State current, long now) {
+        if (now - current.blockedUntil() < 0) {
+            return new Step<>(current, false);
+        }
+        State state = advance(current, now);
+        if (estimate(state, now) + 1 > limit) {
+            if (backoffNanos > 0) {
+                return new Step<>(
+                        new State(state.windowStart(), state.previous(), state.current(), now + backoffNanos), false);
+            }
+            return new Step<>(current, false);
+        }
+        return new Step<>(
+                new State(state.windowStart(), state.previous(), state.current() + 1, state.blockedUntil()), true);
+    }
+
+    @Override
+    RateLimitDecision allowed(State state, long now) {
+        return RateLimitDecision.allowed(limit, (int) Math.floor(limit - estimate(state, now)));
+    }
+
+    @Override
+    RateLimitDecision rejected(State state, long now) {
+        state = advance(state, now);
+        return RateLimitDecision.rejected(limit, Math.max(state.blockedUntil() - now, untilBelowLimit(state, now)));
+    }
+
+    @Override
+    boolean isIdle(State state, long now) {
+        return now - state.windowStart() >= windowNanos * 2 && now - state.blockedUntil() >= 0;
+    }
+
+    // Rolls the fixed windows forward to the one containing now.
+    private State advance(State state, long now) {
+        long elapsed = now - state.windowStart();
+        if (elapsed < windowNanos) {
+            return state;
+        }
+        long windows = elapsed / windowNanos;
+        int previous = windows == 1 ? state.current() : 0;
+        return new State(state.windowStart() + windows * windowNanos, previous, 0, state.blockedUntil());
+    }
+
+    private double estimate(State state, long now) {
+        double overlap = 1.0 - (double) (now - state.windowStart()) / windowNanos;
+        return state.previous() * overlap + state.current();
+    }
+
+    /*
+     * Solves previous * (1 - t / window) + current < limit for the earliest t, rolling into the next window when the
+     * current count alone is at the limit.
+     */
+    private long untilBelowLimit(State state, long now) {
+        long windowEnd = state.windowStart() + windowNanos;
+        if (state.current() >= limit) {
+            double share = 1.0 - (double) (limit - 1) / state.current();
+            return windowEnd + (long) Math.ceil(windowNanos * share) - now;
+        }
+        if (state.previous() == 0) {
+            return 0;
+        }
+        double share = 1.0 - (double) (limit - 1 - state.current()) / state.previous();
+        return state.windowStart() + (long) Math.ceil(windowNanos * share) - now;
+    }
+}
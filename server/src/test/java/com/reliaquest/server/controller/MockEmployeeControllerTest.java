@@ -0,0 +1,169 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {"mock.rate-limit.mode=off", "mock.employees.max=5", "mock.employees.seed=42"})
+@AutoConfigureMockMvc
+class MockEmployeeControllerTest {
+
+    private static final String EMPLOYEES = "/api/v1/employee";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testGetEmployees_NotModifiedForExactTag() throws Exception {
+        String etag = list().getHeader(HttpHeaders.ETAG);
+
+        assertNotModified(etag);
+    }
+
+    @Test
+    void testGetEmployees_NotModifiedForWeakTag() throws Exception {
+        String etag = list().getHeader(HttpHeaders.ETAG);
+
+        assertNotModified("W/" + etag);
+    }
+
+    @Test
+    void testGetEmployees_NotModifiedForTagInList() throws Exception {
+        String etag = list().getHeader(HttpHeaders.ETAG);
+
+        assertNotModified("\"stale\", " + etag + " ,W/\"other\"");
+    }
+
+    @Test
+    void testGetEmployees_NotModifiedForWildcard() throws Exception {
+        assertNotModified("*");
+    }
+
+    @Test
+    void testGetEmployees_FullResponseForOtherTag() throws Exception {
+        mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, "\"stale\", W/\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(5));
+    }
+
+    @Test
+    void testGetEmployees_GzipWhenAccepted() throws Exception {
+        byte[] json = list().getContentAsByteArray();
+
+        assertArrayEquals(json, gunzip(listEncoded("gzip")));
+        assertArrayEquals(json, gunzip(listEncoded("br, gzip;q=0.5")));
+    }
+
+    @Test
+    void testGetEmployees_EncodingsHaveDifferentTags() throws Exception {
+        String plainTag = list().getHeader(HttpHeaders.ETAG);
+        String gzipTag = mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(plainTag, gzipTag);
+        assertEquals(plainTag.substring(0, plainTag.length() - 1) + "-gzip\"", gzipTag);
+        // Either tag validates the list, and the 304 carries the tag of the encoding this request would get.
+        mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, gzipTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, plainTag));
+        mockMvc.perform(get(EMPLOYEES)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + plainTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipTag));
+    }
+
+    @Test
+    void testGetEmployees_PlainWhenGzipRefused() throws Exception {
+        byte[] json = list().getContentAsByteArray();
+
+        for (String acceptEncoding : new String[] {"gzip;q=0", "gzip; q=0.0", "identity"}) {
+            MockHttpServletResponse response = mockMvc.perform(
+                            get(EMPLOYEES).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andReturn()
+                    .getResponse();
+            assertArrayEquals(json, response.getContentAsByteArray(), acceptEncoding);
+        }
+    }
+
+    @Test
+    void testGetEmployees_NewTagAndBodyAfterCreateAndDelete() throws Exception {
+        MockHttpServletResponse before = list();
+        String beforeGzip = new String(gunzip(listEncoded("gzip")));
+
+        mockMvc.perform(post(EMPLOYEES)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Etag Probe\",\"salary\":5000,\"age\":30,\"title\":\"Engineer\"}"))
+                .andExpect(status().isOk());
+        MockHttpServletResponse created = list();
+
+        assertNotEquals(before.getHeader(HttpHeaders.ETAG), created.getHeader(HttpHeaders.ETAG));
+        assertFalse(before.getContentAsString().contains("Etag Probe"));
+        assertFalse(beforeGzip.contains("Etag Probe"));
+        assertTrue(created.getContentAsString().contains("Etag Probe"));
+        assertTrue(new String(gunzip(listEncoded("gzip"))).contains("Etag Probe"));
+        mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, before.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete(EMPLOYEES)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Etag Probe\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(true));
+        MockHttpServletResponse deleted = list();
+
+        assertNotEquals(created.getHeader(HttpHeaders.ETAG), deleted.getHeader(HttpHeaders.ETAG));
+        assertFalse(deleted.getContentAsString().contains("Etag Probe"));
+        assertFalse(new String(gunzip(listEncoded("gzip"))).contains("Etag Probe"));
+    }
+
+    private MockHttpServletResponse list() throws Exception {
+        return mockMvc.perform(get(EMPLOYEES))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.startsWith("\"")))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn()
+                .getResponse();
+    }
+
+    private byte[] listEncoded(String acceptEncoding) throws Exception {
+        return mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+
+    private void assertNotModified(String ifNoneMatch) throws Exception {
+        mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                .andExpect(status().isNotModified())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string(""));
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
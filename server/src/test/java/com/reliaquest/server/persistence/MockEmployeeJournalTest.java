@@ -0,0 +1,154 @@
+package com.reliaquest.server.persistence;
+
+import static com.reliaquest.server.persistence.MockEmployeeSnapshotTest.employee;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReplay_ReturnsChangesInOrder() throws IOException {
+        Path path = directory.resolve("employees.journal");
+        MockEmployee first = employee("Zoë", null, "zoë@company.com");
+        MockEmployee second = employee("Second", 2, null);
+        try (MockEmployeeJournal journal = new MockEmployeeJournal(path, true)) {
+            journal.added(first);
+            journal.added(second);
+            journal.removed(first);
+        }
+
+        Replayed replayed = replay(path);
+
+        assertEquals(3, replayed.count);
+        assertEquals(List.of(first, second), replayed.added);
+        assertEquals(List.of(first.getId()), replayed.removed);
+    }
+
+    @Test
+    void testReplay_CutsOffTornLastFrame() throws IOException {
+        Path path = directory.resolve("employees.journal");
+        MockEmployee kept = employee("Kept", 1, "kept@company.com");
+        long intact;
+        try (MockEmployeeJournal journal = new MockEmployeeJournal(path, false)) {
+            journal.added(kept);
+            intact = Files.size(path);
+            journal.added(employee("Torn", 2, "torn@company.com"));
+        }
+        truncate(path, Files.size(path) - 5);
+
+        Replayed replayed = replay(path);
+
+        assertEquals(List.of(kept), replayed.added);
+        assertEquals(intact, Files.size(path));
+    }
+
+    @Test
+    void testReplay_StopsAtChecksumMismatch() throws IOException {
+        Path path = directory.resolve("employees.journal");
+        MockEmployee kept = employee("Kept", 1, "kept@company.com");
+        long corruptFrame;
+        try (MockEmployeeJournal journal = new MockEmployeeJournal(path, false)) {
+            journal.added(kept);
+            corruptFrame = Files.size(path);
+            journal.added(employee("Corrupt", 2, "corrupt@company.com"));
+            journal.added(employee("After", 3, "after@company.com"));
+        }
+        // Flip a byte of the salary in the second frame: length, checksum, operation, id, then salary.
+        flip(path, corruptFrame + Integer.BYTES * 2 + 1 + Long.BYTES * 2);
+
+        Replayed replayed = replay(path);
+
+        assertEquals(List.of(kept), replayed.added);
+        assertEquals(corruptFrame, Files.size(path));
+    }
+
+    @Test
+    void testAppend_ContinuesAfterCutOffTail() throws IOException {
+        Path path = directory.resolve("employees.journal");
+        MockEmployee kept = employee("Kept", 1, "kept@company.com");
+        try (MockEmployeeJournal journal = new MockEmployeeJournal(path, false)) {
+            journal.added(kept);
+            journal.added(employee("Torn", 2, "torn@company.com"));
+        }
+        truncate(path, Files.size(path) - 1);
+        MockEmployee later = employee("Later", 3, "later@company.com");
+
+        try (MockEmployeeJournal journal = new MockEmployeeJournal(path, false)) {
+            journal.replay(employee -> {}, id -> {});
+            journal.added(later);
+        }
+
+        assertEquals(List.of(kept, later), replay(path).added);
+    }
+
+    @Test
+    void testReset_EmptiesJournal() throws IOException {
+        Path path = directory.resolve("employees.journal");
+        try (MockEmployeeJournal journal = new MockEmployeeJournal(path, false)) {
+            journal.added(employee("Covered", 1, "covered@company.com"));
+            journal.reset();
+        }
+
+        assertEquals(0, replay(path).count);
+    }
+
+    @Test
+    void testConstructor_RejectsOtherFilesAndVersions() throws IOException {
+        Path path = directory.resolve("employees.journal");
+        new MockEmployeeJournal(path, false).close();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(2).flip(), Integer.BYTES);
+        }
+
+        IllegalStateException e =
+                assertThrows(IllegalStateException.class, () -> new MockEmployeeJournal(path, false));
+        assertTrue(e.getMessage().contains("version 2"), e.getMessage());
+
+        Files.writeString(path, "not a journal");
+        assertThrows(IllegalStateException.class, () -> new MockEmployeeJournal(path, false));
+    }
+
+    private static Replayed replay(Path path) throws IOException {
+        Replayed replayed = new Replayed();
+        try (MockEmployeeJournal journal = new MockEmployeeJournal(path, false)) {
+            replayed.count = journal.replay(replayed.added::add, replayed.removed::add);
+        }
+        return replayed;
+    }
+
+    private static void truncate(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private static void flip(Path path, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer value = ByteBuffer.allocate(1);
+            channel.read(value, position);
+            value.put(0, (byte) ~value.get(0));
+            channel.write(value.rewind(), position);
+        }
+    }
+
+    private static final class Replayed {
+        final List<MockEmployee> added = new ArrayList<>();
+        final List<UUID> removed = new ArrayList<>();
+        long count;
+    }
+}
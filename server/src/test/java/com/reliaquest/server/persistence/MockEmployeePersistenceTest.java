@@ -0,0 +1,88 @@
+package com.reliaquest.server.persistence;
+
+import static com.reliaquest.server.persistence.MockEmployeeSnapshotTest.employee;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeePersistenceTest {
+
+    private static final Supplier<List<MockEmployee>> NOT_CALLED = () -> fail("Employees should have been loaded");
+
+    @TempDir
+    Path directory;
+
+    private final MockEmployee first = employee("First", 1, "first@company.com");
+    private final MockEmployee second = employee("Second", 2, "second@company.com");
+
+    @Test
+    void testOpen_RestoresChangesAfterClose() throws IOException {
+        MockEmployeePersistence persistence = persistence();
+        MockEmployeeStore store = persistence.open(() -> List.of(first, second));
+        MockEmployee created = employee("Created", 3, "created@company.com");
+        store.add(created);
+        store.removeById(first.getId());
+        persistence.close();
+
+        assertEquals(List.of(second, created), employees(persistence().open(NOT_CALLED)));
+    }
+
+    @Test
+    void testOpen_ReplaysJournalAfterCrash() throws IOException {
+        MockEmployeeStore store = persistence().open(() -> List.of(first, second));
+        MockEmployee created = employee("Created", 3, "created@company.com");
+        store.add(created);
+        store.removeById(first.getId());
+        // No close: the snapshot still has the generated employees and the journal holds the changes.
+
+        MockEmployeePersistence reopened = persistence();
+        assertEquals(List.of(second, created), employees(reopened.open(NOT_CALLED)));
+        reopened.close();
+        assertEquals(List.of(second, created), employees(persistence().open(NOT_CALLED)));
+    }
+
+    @Test
+    void testOpen_CrashBetweenSnapshotAndJournalResetReplaysChangesOnce() throws IOException {
+        MockEmployeeStore store = persistence().open(() -> List.of(first, second));
+        MockEmployee created = employee("Created", 3, "created@company.com");
+        MockEmployee createdThenRemoved = employee("Transient", 4, "transient@company.com");
+        store.add(created);
+        store.removeById(first.getId());
+        store.add(createdThenRemoved);
+        store.removeById(createdThenRemoved.getId());
+        // The checkpoint's snapshot move happened, but the crash came before journal.reset().
+        MockEmployeeSnapshot.write(directory.resolve("employees.snapshot"), store.snapshot().employees());
+        assertTrue(Files.size(directory.resolve("employees.journal")) > Integer.BYTES * 2);
+
+        MockEmployeeStore reopened = persistence().open(NOT_CALLED);
+
+        assertEquals(List.of(second, created), employees(reopened));
+        assertEquals(1, reopened.findFirstByName("created").stream().count());
+        assertTrue(reopened.findById(first.getId()).isEmpty());
+        assertEquals(2, reopened.size());
+    }
+
+    @Test
+    void testOpen_RefusesSecondOpen() {
+        MockEmployeePersistence persistence = persistence();
+        persistence.open(() -> List.of(first));
+
+        assertThrows(IllegalStateException.class, () -> persistence.open(() -> List.of(first)));
+    }
+
+    private MockEmployeePersistence persistence() {
+        return new MockEmployeePersistence(directory, false);
+    }
+
+    private static List<MockEmployee> employees(MockEmployeeStore store) {
+        return store.snapshot().employees();
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteRead_RoundTripsNullsAndNonAsciiText() throws IOException {
+        List<MockEmployee> employees = List.of(
+                employee("Ada Lovelace", 9000, "ada@company.com"),
+                new MockEmployee(UUID.randomUUID(), null, null, null, null, null),
+                employee("Zoë Ångström 张伟", 7000, "zoë@例え.jp"),
+                employee("Surrogates 😀 and a lone \uD800", Integer.MAX_VALUE, ""));
+        Path path = directory.resolve("employees.snapshot");
+
+        MockEmployeeSnapshot.write(path, employees);
+
+        List<MockEmployee> read = MockEmployeeSnapshot.read(path);
+        assertEquals(employees.subList(0, 3), read.subList(0, 3));
+        // The encoder replaces an unpaired surrogate with '?', and the sizing must have accounted for that byte.
+        assertEquals("Surrogates 😀 and a lone ?", read.get(3).getName());
+        assertFalse(Files.exists(directory.resolve("employees.snapshot.tmp")));
+    }
+
+    @Test
+    void testWriteRead_EmptyStore() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+
+        MockEmployeeSnapshot.write(path, List.of());
+
+        assertEquals(List.of(), MockEmployeeSnapshot.read(path));
+    }
+
+    @Test
+    void testWrite_ReplacesPreviousSnapshot() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+        MockEmployeeSnapshot.write(path, List.of(employee("Old", 1, "old@company.com")));
+        List<MockEmployee> current = List.of(employee("New", 2, "new@company.com"));
+
+        MockEmployeeSnapshot.write(path, current);
+
+        assertEquals(current, MockEmployeeSnapshot.read(path));
+    }
+
+    @Test
+    void testRead_RejectsTruncatedSnapshot() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+        MockEmployeeSnapshot.write(
+                path, List.of(employee("First", 1, "first@company.com"), employee("Second", 2, "second@company.com")));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> MockEmployeeSnapshot.read(path));
+        assertTrue(e.getMessage().contains("truncated"), e.getMessage());
+    }
+
+    @Test
+    void testRead_RejectsOtherFilesAndVersions() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+        MockEmployeeSnapshot.write(path, List.of(employee("First", 1, "first@company.com")));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(2).flip(), Integer.BYTES);
+        }
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> MockEmployeeSnapshot.read(path));
+        assertTrue(e.getMessage().contains("version 2"), e.getMessage());
+
+        Files.writeString(path, "not a snapshot at all");
+        assertThrows(IllegalStateException.class, () -> MockEmployeeSnapshot.read(path));
+    }
+
+    static MockEmployee employee(String name, Integer salary, String email) {
+        return new MockEmployee(UUID.randomUUID(), name, salary, 30, "Engineer", email);
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmailPoolTest {
+
+    private static final int CAPACITY = 2_048;
+
+    @Test
+    void testNext_PooledEmailsAreUnique() throws InterruptedException {
+        try (MockEmailPool pool = new MockEmailPool(new Faker(Locale.ENGLISH, new Random(42)), CAPACITY)) {
+            awaitFull(pool);
+
+            // The pool is first in, first out, so these are exactly the emails it held when full.
+            Set<String> emails = new HashSet<>();
+            for (int i = 0; i < CAPACITY; i++) {
+                String email = pool.next();
+                assertTrue(email.endsWith("@company.com"), email);
+                emails.add(email);
+            }
+
+            assertEquals(CAPACITY, emails.size());
+        }
+    }
+
+    @Test
+    void testNext_GeneratesWhenEmpty() {
+        try (MockEmailPool pool = new MockEmailPool(new Faker(Locale.ENGLISH, new Random(42)), 1)) {
+            for (int i = 0; i < 100; i++) {
+                assertNotNull(pool.next());
+            }
+        }
+    }
+
+    private static void awaitFull(MockEmailPool pool) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (pool.available() < CAPACITY) {
+            assertTrue(System.nanoTime() < deadline, "pool did not fill up");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    // Spans more than one chunk, so chunks generated on different threads are compared too.
+    private static final int COUNT = MockEmployeeGenerator.CHUNK_SIZE + 500;
+
+    private final MockEmployeeGenerator generator = new MockEmployeeGenerator(Locale.ENGLISH);
+
+    @Test
+    void testGenerate_SameSeedGivesSameEmployees() {
+        List<MockEmployee> first = generator.generate(COUNT, 42L);
+        List<MockEmployee> second = generator.generate(COUNT, 42L);
+
+        assertEquals(COUNT, first.size());
+        assertEquals(fields(first, MockEmployee::getId), fields(second, MockEmployee::getId));
+        assertEquals(fields(first, MockEmployee::getName), fields(second, MockEmployee::getName));
+        assertEquals(fields(first, MockEmployee::getSalary), fields(second, MockEmployee::getSalary));
+        assertEquals(fields(first, MockEmployee::getEmail), fields(second, MockEmployee::getEmail));
+        assertEquals(first, second);
+        assertEquals(COUNT, new HashSet<>(fields(first, MockEmployee::getId)).size());
+    }
+
+    @Test
+    void testGenerate_OtherSeedGivesOtherEmployees() {
+        List<MockEmployee> first = generator.generate(COUNT, 42L);
+        List<MockEmployee> other = generator.generate(COUNT, 43L);
+
+        assertEquals(COUNT, other.size());
+        assertNotEquals(fields(first, MockEmployee::getId), fields(other, MockEmployee::getId));
+        assertNotEquals(fields(first, MockEmployee::getName), fields(other, MockEmployee::getName));
+        assertNotEquals(fields(first, MockEmployee::getSalary), fields(other, MockEmployee::getSalary));
+        assertNotEquals(fields(first, MockEmployee::getEmail), fields(other, MockEmployee::getEmail));
+    }
+
+    private static <T> List<T> fields(List<MockEmployee> employees, Function<MockEmployee, T> field) {
+        return employees.stream().map(field).toList();
+    }
+}
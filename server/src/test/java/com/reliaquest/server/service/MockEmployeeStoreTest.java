@@ -0,0 +1,162 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    @Test
+    void testFindById_AfterAddAndRemove() {
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+        MockEmployee employee = employee("Alice");
+
+        store.add(employee);
+
+        assertEquals(Optional.of(employee), store.findById(employee.getId()));
+        assertEquals(Optional.of(employee), store.removeById(employee.getId()));
+        assertEquals(Optional.empty(), store.findById(employee.getId()));
+        assertEquals(Optional.empty(), store.removeById(employee.getId()));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testRemoveFirstByName_RemovesOldestMatchFirst() {
+        MockEmployee oldest = employee("Alice");
+        MockEmployee other = employee("Bob");
+        MockEmployee newer = employee("ALICE");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(oldest, other));
+        store.add(newer);
+
+        assertEquals(Optional.of(oldest), store.removeFirstByName("alice"));
+        assertEquals(Optional.of(newer), store.findFirstByName("Alice"));
+        assertEquals(Optional.of(newer), store.removeFirstByName("Alice"));
+        assertEquals(Optional.empty(), store.removeFirstByName("Alice"));
+        assertEquals(List.of(other), store.snapshot().employees());
+    }
+
+    @Test
+    void testSnapshot_StableWhileWriteRuns() throws Exception {
+        MockEmployee existing = employee("Alice");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(existing));
+        MockEmployeeStore.Snapshot before = store.snapshot();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        store.setJournal(new MockEmployeeStore.Journal() {
+            @Override
+            public void added(MockEmployee employee) {
+                writing.countDown();
+                await(release);
+            }
+
+            @Override
+            public void removed(MockEmployee employee) {}
+        });
+        MockEmployee added = employee("Bob");
+
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() -> store.add(added));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        // The writer holds the write lock here; readers still get the last complete state without blocking.
+        MockEmployeeStore.Snapshot during = CompletableFuture.supplyAsync(store::snapshot)
+                .get(5, TimeUnit.SECONDS);
+        release.countDown();
+        write.get(5, TimeUnit.SECONDS);
+
+        assertSame(before, during);
+        assertEquals(List.of(existing), before.employees());
+        MockEmployeeStore.Snapshot after = store.snapshot();
+        assertTrue(after.version() > before.version());
+        assertEquals(store.version(), after.version());
+        assertEquals(List.of(existing, added), after.employees());
+        assertSame(after, store.snapshot());
+    }
+
+    @Test
+    void testConcurrentWritesAndReads_NeverFail() throws Exception {
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+        int writers = 4;
+        int readers = 4;
+        int perWriter = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                writes.add(executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        MockEmployee employee = employee("Writer" + writer);
+                        store.add(employee);
+                        // Keeps every other employee, so the store grows while readers walk it.
+                        if (i % 2 == 0) {
+                            assertTrue(store.removeFirstByName("writer" + writer).isPresent());
+                        }
+                    }
+                }));
+            }
+            List<Future<?>> reads = new ArrayList<>();
+            for (int r = 0; r < readers; r++) {
+                reads.add(executor.submit(() -> {
+                    try {
+                        while (writing.get()) {
+                            MockEmployeeStore.Snapshot snapshot = store.snapshot();
+                            for (MockEmployee employee : snapshot.employees()) {
+                                assertNotNull(employee.getId());
+                            }
+                            store.findFirstByName("Writer0");
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> read : reads) {
+                read.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of(), List.copyOf(failures));
+        assertEquals(writers * perWriter / 2, store.size());
+        assertEquals(store.size(), store.snapshot().employees().size());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(5000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
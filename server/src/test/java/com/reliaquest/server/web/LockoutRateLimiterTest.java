@@ -0,0 +1,83 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LockoutRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void testTryAcquire_LocksOutAfterLimit() {
+        LockoutRateLimiter limiter = limiter(3);
+
+        assertEquals(2, limiter.tryAcquire("client").remaining());
+        assertEquals(1, limiter.tryAcquire("client").remaining());
+        assertEquals(0, limiter.tryAcquire("client").remaining());
+        RateLimitDecision rejected = limiter.tryAcquire("client");
+
+        assertFalse(rejected.allowed());
+        assertEquals(3, rejected.limit());
+        assertEquals(Duration.ofSeconds(30), rejected.retryAfter());
+        assertTrue(limiter.tryAcquire("other").allowed());
+    }
+
+    @Test
+    void testRetryAfter_CountsFromLastAcceptedRequest() {
+        LockoutRateLimiter limiter = limiter(2);
+        limiter.tryAcquire("client");
+        clock.addAndGet(10 * SECOND);
+        limiter.tryAcquire("client");
+        clock.addAndGet(5 * SECOND);
+
+        RateLimitDecision rejected = limiter.tryAcquire("client");
+
+        assertEquals(Duration.ofSeconds(25), rejected.retryAfter());
+        clock.addAndGet(rejected.retryAfter().toNanos() - 1);
+        assertFalse(limiter.tryAcquire("client").allowed());
+        clock.addAndGet(1);
+        RateLimitDecision reopened = limiter.tryAcquire("client");
+        assertTrue(reopened.allowed());
+        assertEquals(1, reopened.remaining());
+    }
+
+    @Test
+    void testTryAcquire_RejectionsDoNotExtendLockout() {
+        LockoutRateLimiter limiter = limiter(1);
+        limiter.tryAcquire("client");
+        for (int i = 0; i < 29; i++) {
+            clock.addAndGet(SECOND);
+            assertFalse(limiter.tryAcquire("client").allowed());
+        }
+
+        clock.addAndGet(SECOND);
+
+        assertTrue(limiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void testTryAcquire_ConcurrentRequestsAdmitExactlyTheLimit() throws Exception {
+        LockoutRateLimiter limiter = limiter(500);
+
+        assertEquals(500, SlidingWindowRateLimiterTest.acquireConcurrently(limiter, 16, 1_000));
+    }
+
+    @Test
+    void testRandomized_StaysWithinOriginalBounds() {
+        for (int i = 0; i < 100; i++) {
+            LockoutRateLimiter limiter = LockoutRateLimiter.randomized(100);
+            assertTrue(limiter.limit() >= 5 && limiter.limit() <= 9);
+            assertTrue(limiter.backoff().compareTo(Duration.ofSeconds(30)) >= 0);
+            assertTrue(limiter.backoff().compareTo(Duration.ofSeconds(89)) <= 0);
+        }
+    }
+
+    private LockoutRateLimiter limiter(int limit) {
+        return new LockoutRateLimiter(limit, Duration.ofSeconds(30), 100, clock::get);
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PerClientRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void testTryAcquire_RejectsNewClientsWhileFullOfActiveClients() {
+        LockoutRateLimiter limiter = new LockoutRateLimiter(2, Duration.ofSeconds(10), 3, clock::get);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("client-" + i).allowed());
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            RateLimitDecision decision = limiter.tryAcquire("rotated-" + i);
+            assertFalse(decision.allowed());
+            assertEquals(2, decision.limit());
+        }
+
+        assertEquals(3, limiter.trackedClients());
+        assertTrue(limiter.tryAcquire("client-0").allowed());
+    }
+
+    @Test
+    void testTryAcquire_SweepsIdleClientsAtMostOncePerInterval() {
+        long halfSecond = SECOND / 2;
+        LockoutRateLimiter limiter = new LockoutRateLimiter(2, Duration.ofSeconds(10), 2, clock::get);
+        limiter.tryAcquire("first");
+        clock.addAndGet(10 * SECOND);
+        limiter.tryAcquire("second");
+        assertTrue(limiter.tryAcquire("third").allowed(), "first is idle and swept out");
+        assertEquals(2, limiter.trackedClients());
+
+        clock.addAndGet(10 * SECOND - halfSecond);
+        assertFalse(limiter.tryAcquire("fourth").allowed(), "second and third are still active");
+
+        clock.addAndGet(halfSecond);
+        RateLimitDecision early = limiter.tryAcquire("fourth");
+        assertFalse(early.allowed(), "second and third are idle, but the last sweep was half a second ago");
+        assertEquals(Duration.ofNanos(halfSecond), early.retryAfter());
+
+        clock.addAndGet(halfSecond);
+        assertTrue(limiter.tryAcquire("fourth").allowed());
+        assertEquals(1, limiter.trackedClients());
+    }
+
+    @Test
+    void testTryAcquire_ForgottenClientStartsAgainFromIdle() {
+        LockoutRateLimiter limiter = new LockoutRateLimiter(1, Duration.ofSeconds(10), 1, clock::get);
+        assertTrue(limiter.tryAcquire("first").allowed());
+        assertFalse(limiter.tryAcquire("first").allowed());
+
+        clock.addAndGet(10 * SECOND);
+        assertTrue(limiter.tryAcquire("second").allowed());
+        assertEquals(1, limiter.trackedClients());
+        assertFalse(limiter.tryAcquire("second").allowed());
+    }
+
+    @Test
+    void testTryAcquire_KeepsUpdateToClientSweptOutMeanwhile() {
+        Runnable[] duringNextAcquire = {null};
+        LockoutRateLimiter limiter = new LockoutRateLimiter(1, Duration.ofSeconds(10), 1, clock::get) {
+            @Override
+            Step<State> acquire(State current, long now) {
+                Runnable hook = duringNextAcquire[0];
+                duringNextAcquire[0] = null;
+                if (hook != null) {
+                    hook.run();
+                }
+                return super.acquire(current, now);
+            }
+        };
+        assertTrue(limiter.tryAcquire("client").allowed());
+        clock.addAndGet(10 * SECOND);
+        duringNextAcquire[0] = () -> assertTrue(limiter.tryAcquire("other").allowed());
+
+        assertTrue(limiter.tryAcquire("client").allowed());
+
+        assertEquals(2, limiter.trackedClients());
+        assertFalse(limiter.tryAcquire("client").allowed(), "the admitted request must still count");
+    }
+
+    @Test
+    void testConstructor_RequiresRoomForOneClient() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new LockoutRateLimiter(1, Duration.ofSeconds(1), 0, clock::get));
+    }
+}
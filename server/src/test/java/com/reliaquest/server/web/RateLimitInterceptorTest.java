@@ -0,0 +1,54 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testPreHandle_IgnoresClientIdHeaderByDefault() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(limiter(), false, meterRegistry);
+
+        assertTrue(handle(interceptor, "10.0.0.1", "first").getStatus() < 400);
+        MockHttpServletResponse rotated = handle(interceptor, "10.0.0.1", "second");
+
+        assertEquals(429, rotated.getStatus());
+        assertEquals("60", rotated.getHeader("Retry-After"));
+        assertEquals("0", rotated.getHeader(RateLimitInterceptor.REMAINING_HEADER));
+        assertTrue(handle(interceptor, "10.0.0.2", "second").getStatus() < 400);
+        assertEquals(1.0, meterRegistry.get("mock.requests.throttled").counter().count());
+    }
+
+    @Test
+    void testPreHandle_KeysOnClientIdHeaderWhenTrusted() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(limiter(), true, meterRegistry);
+
+        assertTrue(handle(interceptor, "10.0.0.1", "first").getStatus() < 400);
+        assertTrue(handle(interceptor, "10.0.0.1", "second").getStatus() < 400);
+        assertEquals(429, handle(interceptor, "10.0.0.2", "first").getStatus());
+        assertTrue(handle(interceptor, "10.0.0.3", " ").getStatus() < 400);
+        assertEquals(429, handle(interceptor, "10.0.0.3", null).getStatus());
+    }
+
+    private static MockHttpServletResponse handle(RateLimitInterceptor interceptor, String address, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr(address);
+        if (clientId != null) {
+            request.addHeader(RateLimitInterceptor.CLIENT_ID_HEADER, clientId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        return response;
+    }
+
+    private static RateLimiter limiter() {
+        return new LockoutRateLimiter(1, Duration.ofMinutes(1), 100);
+    }
+}
@@ -0,0 +1,173 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void testTryAcquire_AllowsLimitPerWindow() {
+        SlidingWindowRateLimiter limiter = limiter(3, Duration.ZERO);
+
+        assertEquals(2, limiter.tryAcquire("client").remaining());
+        assertEquals(1, limiter.tryAcquire("client").remaining());
+        assertEquals(0, limiter.tryAcquire("client").remaining());
+        RateLimitDecision rejected = limiter.tryAcquire("client");
+
+        assertFalse(rejected.allowed());
+        assertEquals(3, rejected.limit());
+        assertEquals(0, rejected.remaining());
+        assertTrue(limiter.tryAcquire("other").allowed());
+    }
+
+    @Test
+    void testTryAcquire_WeighsPreviousWindowByOverlap() {
+        SlidingWindowRateLimiter limiter = limiter(10, Duration.ZERO);
+        acquire(limiter, 10);
+
+        // A quarter into the next window, the previous ten still count as 7.5.
+        clock.addAndGet(75 * SECOND);
+        RateLimitDecision first = limiter.tryAcquire("client");
+        assertTrue(first.allowed());
+        assertEquals(1, first.remaining());
+        assertTrue(limiter.tryAcquire("client").allowed());
+        assertFalse(limiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void testTryAcquire_ForgetsWindowsOlderThanThePreviousOne() {
+        SlidingWindowRateLimiter limiter = limiter(10, Duration.ZERO);
+        acquire(limiter, 10);
+
+        clock.addAndGet(120 * SECOND);
+
+        assertEquals(10, acquire(limiter, 11));
+    }
+
+    @Test
+    void testRetryAfter_IsWhenPreviousWindowHasSlidOutEnough() {
+        SlidingWindowRateLimiter limiter = limiter(10, Duration.ZERO);
+        acquire(limiter, 10);
+        clock.addAndGet(75 * SECOND);
+        acquire(limiter, 2);
+
+        RateLimitDecision rejected = limiter.tryAcquire("client");
+
+        // 10 * (1 - t / 60s) + 2 + 1 <= 10 first holds at t = 18s, three seconds from now.
+        assertEquals(3_000, rejected.retryAfter().toMillis());
+        long millisecond = Duration.ofMillis(1).toNanos();
+        clock.addAndGet(rejected.retryAfter().toNanos() - millisecond);
+        assertFalse(limiter.tryAcquire("client").allowed());
+        clock.addAndGet(millisecond);
+        assertTrue(limiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void testRetryAfter_RollsIntoNextWindowWhenCurrentIsFull() {
+        SlidingWindowRateLimiter limiter = limiter(10, Duration.ZERO);
+        acquire(limiter, 10);
+        clock.addAndGet(30 * SECOND);
+
+        RateLimitDecision rejected = limiter.tryAcquire("client");
+
+        // The next window must be a tenth in before the ten requests weigh 9: 60s + 6s - 30s.
+        assertEquals(36_000, rejected.retryAfter().toMillis());
+        clock.addAndGet(rejected.retryAfter().toNanos());
+        assertTrue(limiter.tryAcquire("client").allowed());
+        assertFalse(limiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void testTryAcquire_LocksOutForBackoffAfterGoingOver() {
+        SlidingWindowRateLimiter limiter =
+                new SlidingWindowRateLimiter(2, Duration.ofSeconds(1), Duration.ofSeconds(30), 100, clock::get);
+        acquire(limiter, 2);
+
+        RateLimitDecision rejected = limiter.tryAcquire("client");
+
+        assertEquals(Duration.ofSeconds(30), rejected.retryAfter());
+        clock.addAndGet(29 * SECOND);
+        RateLimitDecision blocked = limiter.tryAcquire("client");
+        assertFalse(blocked.allowed());
+        assertEquals(Duration.ofSeconds(1), blocked.retryAfter());
+        clock.addAndGet(SECOND);
+        assertTrue(limiter.tryAcquire("client").allowed());
+    }
+
+    @Test
+    void testIsIdle_AfterTwoWindowsAndNoLockout() {
+        SlidingWindowRateLimiter limiter = limiter(1, Duration.ofMinutes(5));
+        long start = clock.get();
+        SlidingWindowRateLimiter.State state = new SlidingWindowRateLimiter.State(start, 0, 1, start + 300 * SECOND);
+
+        assertFalse(limiter.isIdle(state, start + 119 * SECOND));
+        assertFalse(limiter.isIdle(state, start + 299 * SECOND));
+        assertTrue(limiter.isIdle(state, start + 300 * SECOND));
+        assertTrue(limiter.isIdle(limiter.initial(start), start + 120 * SECOND));
+    }
+
+    @Test
+    void testTryAcquire_ConcurrentRequestsAdmitExactlyTheLimit() throws Exception {
+        SlidingWindowRateLimiter limiter = limiter(500, Duration.ZERO);
+
+        assertEquals(500, acquireConcurrently(limiter, 16, 1_000));
+    }
+
+    @Test
+    void testConstructor_RejectsEmptyLimitOrWindow() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new SlidingWindowRateLimiter(0, Duration.ofMinutes(1), Duration.ZERO, 100));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new SlidingWindowRateLimiter(1, Duration.ZERO, Duration.ZERO, 100));
+    }
+
+    private SlidingWindowRateLimiter limiter(int limit, Duration backoff) {
+        return new SlidingWindowRateLimiter(limit, Duration.ofMinutes(1), backoff, 100, clock::get);
+    }
+
+    private static int acquire(RateLimiter limiter, int requests) {
+        int allowed = 0;
+        for (int i = 0; i < requests; i++) {
+            allowed += limiter.tryAcquire("client").allowed() ? 1 : 0;
+        }
+        return allowed;
+    }
+
+    static int acquireConcurrently(RateLimiter limiter, int threads, int requestsPerThread) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return acquire(limiter, requestsPerThread);
+                }));
+            }
+            start.countDown();
+            int allowed = 0;
+            for (Future<Integer> result : results) {
+                allowed += result.get(30, TimeUnit.SECONDS);
+            }
+            return allowed;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}